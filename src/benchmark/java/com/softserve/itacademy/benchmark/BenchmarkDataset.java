@@ -0,0 +1,123 @@
+package com.softserve.itacademy.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Synthetic dataset written straight into PostgreSQL with generate_series, in chunks so progress is visible
+ * and no single transaction grows with the table. Owners, task todos and collaborators are drawn with
+ * {@code 1 + floor(n * random() ^ skew)}: skew 1 is uniform, larger values pile rows onto the lowest ids,
+ * giving a few users with huge lists and many collaborations.
+ */
+class BenchmarkDataset {
+
+    private static final int CHUNK = 1_000_000;
+
+    /**
+     * Task names are two of these words plus the task number, so full-text queries match a realistic share of rows.
+     */
+    static final String[] WORDS = {
+            "invoice", "report", "meeting", "review", "deploy", "release", "budget", "contract", "design", "draft",
+            "email", "follow", "hire", "interview", "launch", "migrate", "onboard", "order", "plan", "prepare",
+            "publish", "refactor", "renew", "schedule", "sign", "submit", "test", "update", "upgrade", "write",
+            "backup", "call", "clean", "client", "database", "document", "expense", "feedback", "fix", "inventory",
+            "license", "marketing", "newsletter", "office", "payment", "permit", "pipeline", "policy", "presentation",
+            "proposal", "quarterly", "receipt", "roadmap", "security", "server", "shipment", "slides", "survey",
+            "tax", "training", "travel", "vendor", "website", "workshop"};
+    private static final String PASSWORD = "$2a$10$7EqJtq98hPqEX7fNZaFWoOa5o0R8gX1Q3b2eWm5fY2b3s5b7S9e1a";
+
+    final long users;
+    final long todos;
+    final long tasks;
+    final long collaborations;
+    final double skew;
+
+    BenchmarkDataset(long users, long todos, long tasks, long collaborations, double skew) {
+        this.users = users;
+        this.todos = todos;
+        this.tasks = tasks;
+        this.collaborations = collaborations;
+        this.skew = skew;
+    }
+
+    static BenchmarkDataset fromSystemProperties() {
+        return new BenchmarkDataset(
+                Long.getLong("users", 10_000),
+                Long.getLong("todos", 100_000),
+                Long.getLong("tasks", 1_000_000),
+                Long.getLong("collaborations", 50_000),
+                Double.parseDouble(System.getProperty("skew", "3")));
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("users", users);
+        description.put("todos", todos);
+        description.put("tasks", tasks);
+        description.put("collaborations", collaborations);
+        description.put("skew", skew);
+        return description;
+    }
+
+    String skewed(long n) {
+        return "(1 + floor(" + n + " * power(random(), " + skew + ")))::bigint";
+    }
+
+    /**
+     * Draws an id from {@code 1..n} with the same power skew the dataset was generated with, so requests
+     * hit the hot rows as often as the data favours them.
+     */
+    static long pick(Random random, long n, double skew) {
+        return 1 + (long) (n * Math.pow(random.nextDouble(), skew));
+    }
+
+    void seed(JdbcTemplate jdbc) {
+        jdbc.execute("insert into roles (id, name) values (1, 'ADMIN'), (2, 'USER') on conflict do nothing");
+        jdbc.execute("insert into states (id, name) values (1, 'New'), (2, 'Doing'), (3, 'Verify'), (4, 'Done') " +
+                "on conflict do nothing");
+
+        chunked(jdbc, "users", users, (from, to) ->
+                "insert into users (id, first_name, last_name, email, password, role_id) " +
+                "select g, 'First' || g, 'Last' || g, 'user' || g || '@mail.com', '" + PASSWORD + "', 2 " +
+                "from generate_series(" + from + ", " + to + ") g");
+        chunked(jdbc, "todos", todos, (from, to) ->
+                "insert into todos (id, title, created_at, owner_id) " +
+                "select g, 'Todo #' || g, now() - g * interval '1 second', " + skewed(users) + " " +
+                "from generate_series(" + from + ", " + to + ") g");
+        String words = "(array['" + String.join("', '", WORDS) + "'])";
+        chunked(jdbc, "tasks", tasks, (from, to) ->
+                "insert into tasks (id, name, priority, todo_id, state_id, version) " +
+                "select g, " + words + "[1 + g % " + WORDS.length + "] || ' ' || " +
+                words + "[1 + (g / " + WORDS.length + ") % " + WORDS.length + "] || ' #' || g, " +
+                "1 + g % 3, " + skewed(todos) + ", " +
+                "1 + g % 4, 0 from generate_series(" + from + ", " + to + ") g");
+        chunked(jdbc, "todo_collaborator", collaborations, (from, to) ->
+                "insert into todo_collaborator (todo_id, collaborator_id) " +
+                "select distinct (1 + floor(" + todos + " * random()))::bigint, " + skewed(users) + " " +
+                "from generate_series(" + from + ", " + to + ") g on conflict do nothing");
+
+        jdbc.execute("insert into todo_task_counters (todo_id, state_id, priority, task_count) " +
+                "select todo_id, coalesce(state_id, 0), coalesce(priority, 0), count(*) from tasks group by 1, 2, 3");
+        for (String table : new String[]{"roles", "users", "states", "todos", "tasks"}) {
+            jdbc.execute("select setval('" + table + "_seq', (select max(id) from " + table + "))");
+        }
+        jdbc.execute("analyze");
+    }
+
+    private static void chunked(JdbcTemplate jdbc, String table, long rows, ChunkStatement statement) {
+        long start = System.nanoTime();
+        for (long from = 1; from <= rows; from += CHUNK) {
+            long to = Math.min(rows, from + CHUNK - 1);
+            jdbc.execute(statement.sql(from, to));
+            System.out.printf("%-18s %,d / %,d%n", table, to, rows);
+        }
+        System.out.printf("%-18s seeded in %.1f s%n", table, (System.nanoTime() - start) / 1e9);
+    }
+
+    private interface ChunkStatement {
+        String sql(long from, long to);
+    }
+}
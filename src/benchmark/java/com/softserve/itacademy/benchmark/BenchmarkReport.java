@@ -0,0 +1,96 @@
+package com.softserve.itacademy.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON run reports under {@code target/benchmarks}: one entry per measured operation with throughput and latency
+ * percentiles, so two runs (e.g. two builds) can be compared with {@link #compare}.
+ */
+class BenchmarkReport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final Map<String, Object> report = new LinkedHashMap<>();
+
+    BenchmarkReport() {
+        report.put("timestamp", Instant.now().toString());
+    }
+
+    BenchmarkReport put(String key, Object value) {
+        report.put(key, value);
+        return this;
+    }
+
+    static Map<String, Object> result(String name, Histogram histogram, double seconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", name);
+        result.put("operations", histogram.getTotalCount());
+        result.put("throughput", histogram.getTotalCount() / seconds);
+        result.put("p50Ms", histogram.getValueAtPercentile(50) / 1e6);
+        result.put("p90Ms", histogram.getValueAtPercentile(90) / 1e6);
+        result.put("p99Ms", histogram.getValueAtPercentile(99) / 1e6);
+        result.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1e6);
+        result.put("maxMs", histogram.getMaxValue() / 1e6);
+        return result;
+    }
+
+    static void printHeader() {
+        System.out.printf("%-44s %12s %10s %10s %10s %10s %10s%n",
+                "name", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    static void print(Map<String, Object> result) {
+        System.out.printf("%-44s %,12.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n", result.get("name"),
+                result.get("throughput"), result.get("p50Ms"), result.get("p90Ms"), result.get("p99Ms"),
+                result.get("p999Ms"), result.get("maxMs"));
+    }
+
+    File write(String prefix) throws IOException {
+        File directory = new File("target/benchmarks");
+        directory.mkdirs();
+        File file = new File(directory, prefix + "-" + System.currentTimeMillis() + ".json");
+        MAPPER.writeValue(file, report);
+        System.out.println("results: " + file.getPath());
+        return file;
+    }
+
+    /**
+     * Prints the relative change of every numeric field named in {@code fields} against the result
+     * of the same name in the baseline file.
+     */
+    static void compare(List<Map<String, Object>> results, File baselineFile, String... fields) throws IOException {
+        Map<String, JsonNode> baseline = new HashMap<>();
+        for (JsonNode node : MAPPER.readTree(baselineFile).get("results")) {
+            baseline.put(node.get("name").asText(), node);
+        }
+        System.out.printf("%nvs %s%n%-44s", baselineFile.getPath(), "name");
+        for (String field : fields) {
+            System.out.printf(" %12s", field);
+        }
+        System.out.println();
+        for (Map<String, Object> result : results) {
+            JsonNode before = baseline.get(result.get("name"));
+            if (before == null) {
+                continue;
+            }
+            System.out.printf("%-44s", result.get("name"));
+            for (String field : fields) {
+                double was = before.get(field).asDouble();
+                double now = ((Number) result.get(field)).doubleValue();
+                System.out.printf(" %+11.1f%%", was == 0 ? 0 : (now - was) * 100 / was);
+            }
+            System.out.println();
+        }
+    }
+}
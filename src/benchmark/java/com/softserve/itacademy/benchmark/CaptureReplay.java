@@ -0,0 +1,131 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.capture.CaptureReader;
+import com.softserve.itacademy.capture.CapturedRequest;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Re-issues a request capture ({@code todolist.capture.enabled=true}, see {@code RequestCaptureFilter}) against a
+ * running instance, usually one restored from the same data the capture was taken on:
+ * <pre>
+ * mvn -P benchmark test-compile exec:java \
+ *     -Dexec.mainClass=com.softserve.itacademy.benchmark.CaptureReplay \
+ *     -Dcapture=captures/capture-1700000000000.bin -Dtarget=http://localhost:9091 -Dspeed=1
+ * </pre>
+ * {@code -Dspeed=N} replays the original arrival times N times faster, so concurrency follows the captured traffic;
+ * {@code -Dspeed=max} sends back to back from as many threads as requests were ever in flight at once in the
+ * capture. A response whose status differs from the captured one counts as an error. Masked parameters
+ * (passwords) are replayed as masked. Results go to {@code target/benchmarks/replay-<timestamp>.json}.
+ */
+public class CaptureReplay {
+
+    public static void main(String[] args) throws Exception {
+        File capture = new File(System.getProperty("capture"));
+        String target = System.getProperty("target", "http://localhost:9091");
+        String speed = System.getProperty("speed", "1");
+
+        List<CapturedRequest> requests;
+        try (CaptureReader reader = new CaptureReader(new FileInputStream(capture))) {
+            requests = reader.readAll();
+        }
+        requests.sort(Comparator.comparingLong(CapturedRequest::getOffsetMicros));
+        if (requests.isEmpty()) {
+            System.out.println("empty capture: " + capture);
+            return;
+        }
+        int concurrency = maxConcurrency(requests);
+        System.out.printf("%,d requests over %.1f s, up to %d concurrent%n", requests.size(),
+                requests.get(requests.size() - 1).getOffsetMicros() / 1e6, concurrency);
+
+        HttpDriver http = new HttpDriver(target);
+        EndpointRecorder recorder = new EndpointRecorder();
+        Histogram lag = new Histogram(3);
+        long start = System.nanoTime();
+        if ("max".equals(speed)) {
+            ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+            for (CapturedRequest request : requests) {
+                executor.submit(() -> replay(http, recorder, request));
+            }
+            awaitTermination(executor);
+        } else {
+            double factor = Double.parseDouble(speed);
+            ExecutorService executor = Executors.newCachedThreadPool();
+            for (CapturedRequest request : requests) {
+                long due = start + (long) (TimeUnit.MICROSECONDS.toNanos(request.getOffsetMicros()) / factor);
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                }
+                lag.recordValue(Math.max(0, System.nanoTime() - due));
+                executor.submit(() -> replay(http, recorder, request));
+            }
+            awaitTermination(executor);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        List<Map<String, Object>> results = recorder.results(seconds);
+        System.out.printf("%nreplayed in %.1f s, schedule lag p99 %.2f ms, max %.2f ms%n", seconds,
+                lag.getValueAtPercentile(99) / 1e6, lag.getMaxValue() / 1e6);
+        new BenchmarkReport()
+                .put("capture", capture.getPath())
+                .put("target", target)
+                .put("speed", speed)
+                .put("requests", requests.size())
+                .put("capturedConcurrency", concurrency)
+                .put("seconds", seconds)
+                .put("scheduleLagP99Ms", lag.getValueAtPercentile(99) / 1e6)
+                .put("results", results)
+                .write("replay");
+    }
+
+    private static void replay(HttpDriver http, EndpointRecorder recorder, CapturedRequest request) {
+        String parameters = request.getEncodedParameters();
+        boolean body = !"GET".equals(request.getMethod()) && !"DELETE".equals(request.getMethod());
+        String path = body || parameters.isEmpty() ? request.getPath() : request.getPath() + "?" + parameters;
+        long start = System.nanoTime();
+        HttpDriver.Response response = http.send(request.getMethod(), path, body ? parameters : null);
+        recorder.record(request.getMethod() + " " + request.getTemplate(), response.status,
+                response.status == request.getStatus(), System.nanoTime() - start);
+    }
+
+    /**
+     * Most requests in flight at the same moment in the capture.
+     */
+    static int maxConcurrency(List<CapturedRequest> requests) {
+        long[] starts = new long[requests.size()];
+        long[] ends = new long[requests.size()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = requests.get(i).getOffsetMicros();
+            ends[i] = starts[i] + requests.get(i).getDurationMicros();
+        }
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+        int inFlight = 0;
+        int max = 1;
+        for (int s = 0, e = 0; s < starts.length; ) {
+            if (starts[s] < ends[e]) {
+                max = Math.max(max, ++inFlight);
+                s++;
+            } else {
+                inFlight--;
+                e++;
+            }
+        }
+        return max;
+    }
+
+    private static void awaitTermination(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.DAYS);
+    }
+}
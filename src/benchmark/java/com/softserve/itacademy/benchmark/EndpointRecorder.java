@@ -0,0 +1,66 @@
+package com.softserve.itacademy.benchmark;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency histogram, status codes and error count per endpoint name; recorders from several threads are merged
+ * with {@link #add}.
+ */
+class EndpointRecorder {
+
+    final Map<String, Endpoint> endpoints = new TreeMap<>();
+
+    synchronized void record(String endpoint, int status, boolean ok, long nanos) {
+        endpoints.computeIfAbsent(endpoint, name -> new Endpoint()).record(status, ok, nanos);
+    }
+
+    synchronized void add(EndpointRecorder other) {
+        other.endpoints.forEach((name, endpoint) -> endpoints.computeIfAbsent(name, n -> new Endpoint()).add(endpoint));
+    }
+
+    /**
+     * Prints and returns one {@link BenchmarkReport#result} per endpoint, with errors, error rate and statuses.
+     */
+    List<Map<String, Object>> results(double seconds) {
+        List<Map<String, Object>> results = new ArrayList<>();
+        BenchmarkReport.printHeader();
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            Endpoint endpoint = entry.getValue();
+            Map<String, Object> result = BenchmarkReport.result(entry.getKey(), endpoint.histogram, seconds);
+            result.put("errors", endpoint.errors);
+            result.put("errorRate", endpoint.errors / (double) Math.max(1, endpoint.histogram.getTotalCount()));
+            result.put("statuses", endpoint.statuses);
+            results.add(result);
+            BenchmarkReport.print(result);
+            System.out.printf("%-44s errors %,d (%.2f%%) statuses %s%n", "", endpoint.errors,
+                    (double) result.get("errorRate") * 100, endpoint.statuses);
+        }
+        return results;
+    }
+
+    static class Endpoint {
+
+        final Histogram histogram = new Histogram(3);
+        final Map<Integer, Long> statuses = new TreeMap<>();
+        long errors;
+
+        void record(int status, boolean ok, long nanos) {
+            histogram.recordValue(nanos);
+            statuses.merge(status, 1L, Long::sum);
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void add(Endpoint other) {
+            histogram.add(other.histogram);
+            other.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+            errors += other.errors;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.dto.TaskDto;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.Role;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code equals} and {@code hashCode} of the entities and {@link TaskDto}. Every object is compared
+ * with an equal copy, the worst case where all fields are checked. {@code User.hashCode} also
+ * reaches into {@code role.getId()}.
+ * <pre>
+ * mvn -P benchmark test-compile exec:exec -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main EqualityBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EqualityBenchmark {
+
+    private User user;
+    private User userCopy;
+    private ToDo todo;
+    private ToDo todoCopy;
+    private Task task;
+    private Task taskCopy;
+    private TaskDto dto;
+    private TaskDto dtoCopy;
+
+    @Setup
+    public void setUp() {
+        Role role = new Role();
+        role.setName("USER");
+        user = user(role);
+        userCopy = user(role);
+        todo = todo(user);
+        todoCopy = todo(user);
+        task = task(todo);
+        taskCopy = task(todo);
+        dto = new TaskDto(5L, "Write release notes", "MEDIUM", 7L, 2L, 3L);
+        dtoCopy = new TaskDto(5L, "Write release notes", "MEDIUM", 7L, 2L, 3L);
+    }
+
+    private static User user(Role role) {
+        User user = new User();
+        user.setId(4L);
+        user.setFirstName("Nora");
+        user.setLastName("White");
+        user.setEmail("nora@mail.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOa5o0R8gX1Q3b2eWm5fY2b3s5b7S9e1a");
+        user.setRole(role);
+        return user;
+    }
+
+    private static ToDo todo(User owner) {
+        ToDo todo = new ToDo();
+        todo.setId(7L);
+        todo.setTitle("Release plan");
+        todo.setCreatedAt(LocalDateTime.of(2020, 9, 1, 10, 0));
+        todo.setOwner(owner);
+        return todo;
+    }
+
+    private static Task task(ToDo todo) {
+        Task task = new Task();
+        task.setId(5L);
+        task.setName("Write release notes");
+        task.setPriority(Priority.MEDIUM);
+        task.setTodo(todo);
+        task.setVersion(3L);
+        return task;
+    }
+
+    @Benchmark
+    public boolean userEquals() {
+        return user.equals(userCopy);
+    }
+
+    @Benchmark
+    public int userHashCode() {
+        return user.hashCode();
+    }
+
+    @Benchmark
+    public boolean todoEquals() {
+        return todo.equals(todoCopy);
+    }
+
+    @Benchmark
+    public int todoHashCode() {
+        return todo.hashCode();
+    }
+
+    @Benchmark
+    public boolean taskEquals() {
+        return task.equals(taskCopy);
+    }
+
+    @Benchmark
+    public int taskHashCode() {
+        return task.hashCode();
+    }
+
+    @Benchmark
+    public boolean taskDtoEquals() {
+        return dto.equals(dtoCopy);
+    }
+
+    @Benchmark
+    public int taskDtoHashCode() {
+        return dto.hashCode();
+    }
+}
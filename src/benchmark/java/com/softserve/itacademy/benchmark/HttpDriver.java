@@ -0,0 +1,72 @@
+package com.softserve.itacademy.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal HTTP client for the load tools: no redirect following (the MVC flows answer with 302), bodies read fully
+ * so keep-alive connections are reused, I/O failures reported as status -1.
+ */
+class HttpDriver {
+
+    static final int FAILED = -1;
+
+    private final String baseUrl;
+
+    HttpDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    static class Response {
+
+        final int status;
+        final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Sends {@code form} (already form-encoded) as the request body, or no body when null.
+     */
+    Response send(String method, String path, String form) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+            connection.setInstanceFollowRedirects(false);
+            connection.setRequestMethod(method);
+            if (form != null) {
+                connection.setDoOutput(true);
+                connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+                try (OutputStream out = connection.getOutputStream()) {
+                    out.write(form.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            int status = connection.getResponseCode();
+            return new Response(status, read(status >= 400 ? connection.getErrorStream() : connection.getInputStream()));
+        } catch (IOException e) {
+            return new Response(FAILED, "");
+        }
+    }
+
+    private static String read(InputStream in) throws IOException {
+        if (in == null) {
+            return "";
+        }
+        try (InputStream stream = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
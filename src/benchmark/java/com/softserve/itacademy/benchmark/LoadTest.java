@@ -0,0 +1,205 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.ToDoListApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Boots the application on a random port against a local PostgreSQL and drives the real MVC endpoints with
+ * closed-loop virtual users, each repeatedly picking one of the weighted flows:
+ * <ul>
+ *     <li>{@code view}: GET /todos/{id}/tasks</li>
+ *     <li>{@code create}: POST /tasks/create/todos/{todo_id}</li>
+ *     <li>{@code state}: GET /todos/{id}/tasks, then POST /tasks/{task_id}/state/todos/{todo_id} with the
+ *     version rendered on the page, as the state dropdown does</li>
+ *     <li>{@code collaborator}: GET /todos/{id}/add?user_id=</li>
+ * </ul>
+ * Reports throughput, latency percentiles, error rate and status codes per endpoint, and writes them to
+ * {@code target/benchmarks/loadtest-<timestamp>.json}. Uses the {@link RepositoryBenchmark} database;
+ * {@code -Dseed=true} (re)creates it with the {@link BenchmarkDataset} options:
+ * <pre>
+ * mvn -P benchmark test-compile exec:java \
+ *     -Dexec.mainClass=com.softserve.itacademy.benchmark.LoadTest \
+ *     -Dusers=10000 -Dtodos=100000 -Dtasks=1000000 -DvirtualUsers=32 -Dseconds=120 \
+ *     -Dmix=view:70,create:10,state:15,collaborator:5 -DthinkMs=0 -Dbaseline=target/benchmarks/loadtest-previous.json
+ * </pre>
+ */
+public class LoadTest {
+
+    private static final Pattern STATE_FORM = Pattern.compile(
+            "/tasks/(\\d+)/state/todos/\\d+\".*?name=\"version\" value=\"(\\d+)\"", Pattern.DOTALL);
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkDataset dataset = BenchmarkDataset.fromSystemProperties();
+        boolean seed = Boolean.getBoolean("seed");
+        int virtualUsers = Integer.getInteger("virtualUsers", 16);
+        int seconds = Integer.getInteger("seconds", 60);
+        int warmupSeconds = Integer.getInteger("warmupSeconds", 15);
+        long thinkMs = Long.getLong("thinkMs", 0);
+        Map<String, Integer> mix = mix(System.getProperty("mix", "view:70,create:10,state:15,collaborator:5"));
+
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("server.port", 0);
+        defaults.put("spring.datasource.url", "jdbc:postgresql://localhost:5432/todolist_bench?reWriteBatchedInserts=true");
+        defaults.put("spring.jpa.hibernate.ddl-auto", seed ? "create" : "none");
+        defaults.put("spring.datasource.initialization-mode", seed ? "always" : "never");
+        defaults.put("spring.datasource.data", "classpath:indexes.sql");
+        defaults.put("spring.datasource.hikari.maximum-pool-size", virtualUsers);
+        defaults.put("logging.level.root", "WARN");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ToDoListApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(RepositoryBenchmark.withDefaults(defaults, args))) {
+            if (seed) {
+                dataset.seed(context.getBean(JdbcTemplate.class));
+            }
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            run(baseUrl, dataset, mix, virtualUsers, warmupSeconds, thinkMs);
+            EndpointRecorder recorder = run(baseUrl, dataset, mix, virtualUsers, seconds, thinkMs);
+
+            List<Map<String, Object>> results = recorder.results(seconds);
+
+            new BenchmarkReport()
+                    .put("dataset", dataset.describe())
+                    .put("virtualUsers", virtualUsers)
+                    .put("seconds", seconds)
+                    .put("thinkMs", thinkMs)
+                    .put("mix", mix)
+                    .put("results", results)
+                    .write("loadtest");
+            String baseline = System.getProperty("baseline");
+            if (baseline != null) {
+                BenchmarkReport.compare(results, new File(baseline), "throughput", "p99Ms", "errorRate");
+            }
+        }
+    }
+
+    static Map<String, Integer> mix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] flow = part.trim().split(":");
+            mix.put(flow[0], Integer.parseInt(flow[1]));
+        }
+        return mix;
+    }
+
+    private static EndpointRecorder run(String baseUrl, BenchmarkDataset dataset, Map<String, Integer> mix,
+                                int virtualUsers, int seconds, long thinkMs) throws Exception {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        ExecutorService executor = Executors.newFixedThreadPool(virtualUsers);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<EndpointRecorder>> futures = new ArrayList<>();
+        for (int i = 0; i < virtualUsers; i++) {
+            futures.add(executor.submit(() -> {
+                VirtualUser user = new VirtualUser(baseUrl, dataset);
+                while (System.nanoTime() < deadline) {
+                    int roll = user.random.nextInt(totalWeight);
+                    for (Map.Entry<String, Integer> flow : mix.entrySet()) {
+                        roll -= flow.getValue();
+                        if (roll < 0) {
+                            user.run(flow.getKey());
+                            break;
+                        }
+                    }
+                    if (thinkMs > 0) {
+                        Thread.sleep(thinkMs);
+                    }
+                }
+                return user.recorder;
+            }));
+        }
+        EndpointRecorder total = new EndpointRecorder();
+        for (Future<EndpointRecorder> future : futures) {
+            total.add(future.get());
+        }
+        executor.shutdown();
+        return total;
+    }
+
+    private static class VirtualUser {
+
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final EndpointRecorder recorder = new EndpointRecorder();
+        final HttpDriver http;
+        final BenchmarkDataset dataset;
+
+        VirtualUser(String baseUrl, BenchmarkDataset dataset) {
+            this.http = new HttpDriver(baseUrl);
+            this.dataset = dataset;
+        }
+
+        void run(String flow) {
+            long todoId = BenchmarkDataset.pick(random, dataset.todos, dataset.skew);
+            switch (flow) {
+                case "view":
+                    view(todoId);
+                    break;
+                case "create":
+                    send("POST /tasks/create/todos/{todo_id}", "POST", "/tasks/create/todos/" + todoId,
+                            "name=Load+test+task&priority=MEDIUM&todoId=" + todoId + "&stateId=1", 302);
+                    break;
+                case "state":
+                    changeState(todoId);
+                    break;
+                case "collaborator":
+                    long userId = BenchmarkDataset.pick(random, dataset.users, dataset.skew);
+                    send("GET /todos/{id}/add", "GET", "/todos/" + todoId + "/add?user_id=" + userId, null, 302);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown flow: " + flow);
+            }
+        }
+
+        String view(long todoId) {
+            return send("GET /todos/{id}/tasks", "GET", "/todos/" + todoId + "/tasks", null, 200);
+        }
+
+        void changeState(long todoId) {
+            String page = view(todoId);
+            if (page == null) {
+                return;
+            }
+            String taskId = null;
+            String version = null;
+            int seen = 0;
+            Matcher matcher = STATE_FORM.matcher(page);
+            while (matcher.find()) {
+                if (random.nextInt(++seen) == 0) {
+                    taskId = matcher.group(1);
+                    version = matcher.group(2);
+                }
+            }
+            if (taskId != null) {
+                send("POST /tasks/{task_id}/state/todos/{todo_id}", "POST", "/tasks/" + taskId + "/state/todos/" + todoId,
+                        "stateId=" + (1 + random.nextInt(4)) + "&version=" + version, 302);
+            }
+        }
+
+        /**
+         * Returns the body when the response has the expected status, null otherwise.
+         */
+        String send(String endpoint, String method, String path, String form, int expectedStatus) {
+            long start = System.nanoTime();
+            HttpDriver.Response response = http.send(method, path, form);
+            boolean ok = response.status == expectedStatus;
+            recorder.record(endpoint, response.status, ok, System.nanoTime() - start);
+            return ok ? response.body : null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.softserve.itacademy.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.softserve.itacademy.controller.TaskController;
+import com.softserve.itacademy.controller.ToDoController;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Throughput of the controller log calls under the default synchronous pattern appender ({@code sync})
+ * and the production ring-buffer JSON pipeline from logback-spring.xml ({@code async}).
+ * Both write to a temporary file instead of stdout so the output does not mix with JMH's own;
+ * the async numbers include events dropped when the ring buffer is full, as production would.
+ * <pre>
+ * mvn -P benchmark test-compile exec:exec -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main LoggingBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoggingBenchmark {
+
+    private static final String SYNC_PATTERN =
+            "%d{yyyy-MM-dd HH:mm:ss.SSS} %5p 1 --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"sync", "async"})
+    public String pipeline;
+
+    private org.slf4j.Logger todoLogger;
+    private org.slf4j.Logger taskLogger;
+    private Appender<ILoggingEvent> appender;
+    private File file;
+
+    @Setup
+    public void setUp() throws IOException {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        file = File.createTempFile("logging-benchmark", ".log");
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.getAbsolutePath());
+        if ("sync".equals(pipeline)) {
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern(SYNC_PATTERN);
+            encoder.start();
+            fileAppender.setEncoder(encoder);
+            fileAppender.start();
+            appender = fileAppender;
+        } else {
+            LogstashEncoder encoder = new LogstashEncoder();
+            encoder.setContext(context);
+            encoder.setIncludeContext(false);
+            encoder.start();
+            fileAppender.setEncoder(encoder);
+            fileAppender.start();
+            LoggingEventAsyncDisruptorAppender async = new LoggingEventAsyncDisruptorAppender();
+            async.setContext(context);
+            async.setRingBufferSize(8192);
+            async.addAppender(fileAppender);
+            async.start();
+            appender = async;
+        }
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+
+        todoLogger = LoggerFactory.getLogger(ToDoController.class);
+        taskLogger = LoggerFactory.getLogger(TaskController.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        appender.stop();
+        file.delete();
+    }
+
+    @Benchmark
+    public void readToDo() {
+        todoLogger.info("Read toDo id={}", 7L);
+    }
+
+    @Benchmark
+    public void getAllToDos() {
+        todoLogger.info("GetAll toDo userId={}, afterCreatedAt={}, afterId={}", 6L, null, 0L);
+    }
+
+    @Benchmark
+    public void updateTaskState() {
+        taskLogger.info("Updated task state id = {}, toDoId = {}, stateId = {}", 5L, 7L, 2L);
+    }
+
+    @Benchmark
+    public void createTask() {
+        taskLogger.info("Created task id = {}, toDoId = {}", 5L, 7L);
+    }
+}
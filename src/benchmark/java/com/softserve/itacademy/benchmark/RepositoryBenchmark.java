@@ -0,0 +1,155 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.ToDoListApplication;
+import com.softserve.itacademy.repository.TaskRepository;
+import com.softserve.itacademy.repository.ToDoRepository;
+import com.softserve.itacademy.repository.UserRepository;
+import com.softserve.itacademy.service.TaskService;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Throughput and latency percentiles of {@code ToDoRepository.getByUserId} (the UNION),
+ * {@code TaskRepository.getByTodoId}, {@code UserRepository.getUserByEmail} and the full-text
+ * {@code TaskService.search} (first page of 20; a common word, or one task number in four) on a large synthetic dataset
+ * (see {@link BenchmarkDataset}). Use a database of its own: seeding recreates the schema.
+ * <pre>
+ * createdb todolist_bench
+ * mvn -P benchmark test-compile exec:java \
+ *     -Dexec.mainClass=com.softserve.itacademy.benchmark.RepositoryBenchmark \
+ *     -Dseed=true -Dusers=1000000 -Dtodos=10000000 -Dtasks=100000000 -Dcollaborations=5000000 -Dskew=3 \
+ *     -Dthreads=16 -Dseconds=60 -Dbaseline=target/benchmarks/repository-previous.json
+ * </pre>
+ * Without {@code -Dseed=true} the existing dataset is reused (pass the same sizes so arguments are drawn
+ * from the right ranges); {@code -Doperations=TaskService.search,...} limits the run to some methods.
+ * Query arguments follow {@code -DquerySkew} (default: the dataset skew), so hot users are also the most requested. Results go to {@code target/benchmarks/repository-<timestamp>.json};
+ * with {@code -Dbaseline} the run is compared against an earlier file.
+ */
+public class RepositoryBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkDataset dataset = BenchmarkDataset.fromSystemProperties();
+        boolean seed = Boolean.getBoolean("seed");
+        int threads = Integer.getInteger("threads", 8);
+        int seconds = Integer.getInteger("seconds", 30);
+        int warmupSeconds = Integer.getInteger("warmupSeconds", 10);
+        double querySkew = Double.parseDouble(System.getProperty("querySkew", String.valueOf(dataset.skew)));
+
+        Map<String, Object> defaults = new LinkedHashMap<>();
+        defaults.put("spring.datasource.url", "jdbc:postgresql://localhost:5432/todolist_bench?reWriteBatchedInserts=true");
+        defaults.put("spring.jpa.hibernate.ddl-auto", seed ? "create" : "none");
+        defaults.put("spring.datasource.initialization-mode", seed ? "always" : "never");
+        defaults.put("spring.datasource.data", "classpath:indexes.sql");
+        defaults.put("spring.datasource.hikari.maximum-pool-size", threads);
+        defaults.put("todolist.slow-query.enabled", false);
+        defaults.put("logging.level.root", "WARN");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ToDoListApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(withDefaults(defaults, args))) {
+            if (seed) {
+                dataset.seed(context.getBean(JdbcTemplate.class));
+            }
+            ToDoRepository todoRepository = context.getBean(ToDoRepository.class);
+            TaskRepository taskRepository = context.getBean(TaskRepository.class);
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            TaskService taskService = context.getBean(TaskService.class);
+
+            Map<String, Consumer<ThreadLocalRandom>> operations = new LinkedHashMap<>();
+            operations.put("ToDoRepository.getByUserId",
+                    random -> todoRepository.getByUserId(BenchmarkDataset.pick(random, dataset.users, querySkew)));
+            operations.put("TaskRepository.getByTodoId",
+                    random -> taskRepository.getByTodoId(BenchmarkDataset.pick(random, dataset.todos, querySkew)));
+            operations.put("UserRepository.getUserByEmail",
+                    random -> userRepository.getUserByEmail(
+                            "user" + BenchmarkDataset.pick(random, dataset.users, querySkew) + "@mail.com"));
+            operations.put("TaskService.search",
+                    random -> taskService.search(BenchmarkDataset.pick(random, dataset.users, querySkew),
+                            random.nextInt(4) == 0 ? String.valueOf(1 + random.nextLong(dataset.tasks))
+                                    : BenchmarkDataset.WORDS[random.nextInt(BenchmarkDataset.WORDS.length)],
+                            PageRequest.of(0, 20)));
+            String only = System.getProperty("operations");
+            if (only != null) {
+                operations.keySet().retainAll(Arrays.asList(only.split(",")));
+            }
+
+            List<Map<String, Object>> results = new ArrayList<>();
+            BenchmarkReport.printHeader();
+            for (Map.Entry<String, Consumer<ThreadLocalRandom>> operation : operations.entrySet()) {
+                run(operation.getValue(), threads, warmupSeconds);
+                Map<String, Object> result = BenchmarkReport.result(operation.getKey(),
+                        run(operation.getValue(), threads, seconds), seconds);
+                results.add(result);
+                BenchmarkReport.print(result);
+            }
+
+            new BenchmarkReport()
+                    .put("dataset", dataset.describe())
+                    .put("threads", threads)
+                    .put("seconds", seconds)
+                    .put("querySkew", querySkew)
+                    .put("results", results)
+                    .write("repository");
+            String baseline = System.getProperty("baseline");
+            if (baseline != null) {
+                BenchmarkReport.compare(results, new File(baseline), "throughput", "p99Ms");
+            }
+        }
+    }
+
+    /**
+     * Command line arguments, so the benchmark database wins over application.properties; explicit
+     * {@code --key=value} arguments still override each default.
+     */
+    static String[] withDefaults(Map<String, Object> defaults, String[] args) {
+        List<String> all = new ArrayList<>();
+        defaults.forEach((key, value) -> {
+            if (Arrays.stream(args).noneMatch(arg -> arg.startsWith("--" + key + "="))) {
+                all.add("--" + key + "=" + value);
+            }
+        });
+        all.addAll(Arrays.asList(args));
+        return all.toArray(new String[0]);
+    }
+
+    private static Histogram run(Consumer<ThreadLocalRandom> operation, int threads, int seconds) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Future<Histogram>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                Histogram histogram = new Histogram(3);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    operation.accept(random);
+                    histogram.recordValue(System.nanoTime() - start);
+                }
+                return histogram;
+            }));
+        }
+        Histogram total = new Histogram(3);
+        for (Future<Histogram> future : futures) {
+            total.add(future.get());
+        }
+        executor.shutdown();
+        return total;
+    }
+}
@@ -0,0 +1,82 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.ToDoListApplication;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.State;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.service.StateService;
+import com.softserve.itacademy.service.TaskService;
+import com.softserve.itacademy.service.ToDoService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares rows/sec of one-by-one {@link TaskService#create} against the batched {@link TaskService#createAll}.
+ * Runs against the database configured in application.properties:
+ * <pre>
+ * mvn -P benchmark test-compile exec:java \
+ *     -Dexec.mainClass=com.softserve.itacademy.benchmark.TaskImportBenchmark -Drows=10000
+ * </pre>
+ */
+public class TaskImportBenchmark {
+
+    public static void main(String[] args) {
+        int rows = Integer.getInteger("rows", 10000);
+        long todoId = Long.getLong("todoId", 7L);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ToDoListApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(withDefaults(args))) {
+            TaskService taskService = context.getBean(TaskService.class);
+            ToDo todo = context.getBean(ToDoService.class).readById(todoId);
+            State state = context.getBean(StateService.class).getByName("New");
+
+            createOneByOne(taskService, tasks(todo, state, rows / 10, "warmup single"));
+            taskService.createAll(tasks(todo, state, rows / 10, "warmup bulk"));
+
+            long single = createOneByOne(taskService, tasks(todo, state, rows, "single"));
+            long start = System.nanoTime();
+            taskService.createAll(tasks(todo, state, rows, "bulk"));
+            long bulk = System.nanoTime() - start;
+
+            System.out.printf("rows=%d%n", rows);
+            System.out.printf("create     : %,10.0f rows/sec%n", rows / (single / 1e9));
+            System.out.printf("createAll  : %,10.0f rows/sec%n", rows / (bulk / 1e9));
+        }
+    }
+
+    static String[] withDefaults(String[] args) {
+        String[] all = Arrays.copyOf(new String[]{"--spring.jpa.show-sql=false", "--logging.level.root=WARN"},
+                args.length + 2);
+        System.arraycopy(args, 0, all, 2, args.length);
+        return all;
+    }
+
+    private static long createOneByOne(TaskService taskService, List<Task> tasks) {
+        long start = System.nanoTime();
+        for (Task task : tasks) {
+            taskService.create(task);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static List<Task> tasks(ToDo todo, State state, int count, String prefix) {
+        Priority[] priorities = Priority.values();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setName(prefix + " #" + i);
+            task.setPriority(priorities[i % priorities.length]);
+            task.setTodo(todo);
+            task.setState(state);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
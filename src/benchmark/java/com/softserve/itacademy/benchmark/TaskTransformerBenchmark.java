@@ -0,0 +1,82 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.dto.TaskDto;
+import com.softserve.itacademy.dto.TaskTransformer;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TaskTransformer} in both directions and the {@code Priority.valueOf} parse it relies on.
+ * Run with the GC profiler to see bytes allocated per operation:
+ * <pre>
+ * mvn -P benchmark test-compile exec:exec -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main TaskTransformerBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TaskTransformerBenchmark {
+
+    private Task task;
+    private TaskDto dto;
+    private ToDo todo;
+    private com.softserve.itacademy.model.State state;
+    private String[] priorities;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        todo = new ToDo();
+        todo.setId(7L);
+        todo.setTitle("Release plan");
+        todo.setCreatedAt(LocalDateTime.of(2020, 9, 1, 10, 0));
+        state = new com.softserve.itacademy.model.State();
+        state.setId(2L);
+        state.setName("In Progress");
+
+        task = new Task();
+        task.setId(5L);
+        task.setName("Write release notes");
+        task.setPriority(Priority.MEDIUM);
+        task.setTodo(todo);
+        task.setState(state);
+        task.setVersion(3L);
+        dto = TaskTransformer.convertToDto(task);
+
+        priorities = new String[]{"LOW", "MEDIUM", "HIGH"};
+    }
+
+    @Benchmark
+    public TaskDto convertToDto() {
+        return TaskTransformer.convertToDto(task);
+    }
+
+    @Benchmark
+    public Task convertToEntity() {
+        return TaskTransformer.convertToEntity(dto, todo, state);
+    }
+
+    @Benchmark
+    public Priority priorityValueOf() {
+        next = (next + 1) % priorities.length;
+        return Priority.valueOf(priorities[next]);
+    }
+}
@@ -0,0 +1,108 @@
+package com.softserve.itacademy.benchmark;
+
+import com.softserve.itacademy.dto.TaskDto;
+import com.softserve.itacademy.model.Role;
+import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import javax.validation.ValidatorFactory;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of the objects bound from forms, valid and invalid. The validator is built once,
+ * as Spring MVC does, so only the per-call cost (pattern matching, violation building) is measured.
+ * <pre>
+ * mvn -P benchmark test-compile exec:exec -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main ValidationBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory factory;
+    private Validator validator;
+    private User validUser;
+    private User invalidUser;
+    private ToDo todo;
+    private TaskDto dto;
+    private TaskDto invalidDto;
+
+    @Setup
+    public void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+
+        Role role = new Role();
+        role.setName("USER");
+        validUser = new User();
+        validUser.setFirstName("Nora");
+        validUser.setLastName("White");
+        validUser.setEmail("nora@mail.com");
+        validUser.setPassword("Passw0rd1");
+        validUser.setRole(role);
+        invalidUser = new User();
+        invalidUser.setFirstName("nora");
+        invalidUser.setLastName("");
+        invalidUser.setEmail("nora-at-mail");
+        invalidUser.setPassword("Passw0rd1");
+        invalidUser.setRole(role);
+
+        todo = new ToDo();
+        todo.setTitle("Release plan");
+        todo.setCreatedAt(LocalDateTime.of(2020, 9, 1, 10, 0));
+
+        dto = new TaskDto(0L, "Write release notes", "MEDIUM", 7L, 2L, 0L);
+        invalidDto = new TaskDto(0L, " ", "MEDIUM", 7L, 2L, 0L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        factory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<User>> validUser() {
+        return validator.validate(validUser);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<User>> invalidUser() {
+        return validator.validate(invalidUser);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<ToDo>> todo() {
+        return validator.validate(todo);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskDto>> taskDto() {
+        return validator.validate(dto);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TaskDto>> invalidTaskDto() {
+        return validator.validate(invalidDto);
+    }
+}
@@ -0,0 +1,51 @@
+package com.softserve.itacademy.capture;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@ConfigurationProperties("todolist.capture")
+public class CaptureProperties {
+
+    private boolean enabled = false;
+
+    private String directory = "captures";
+
+    private int queueSize = 8192;
+
+    private List<String> maskedParameters = new ArrayList<>(Collections.singletonList("password"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public List<String> getMaskedParameters() {
+        return maskedParameters;
+    }
+
+    public void setMaskedParameters(List<String> maskedParameters) {
+        this.maskedParameters = maskedParameters;
+    }
+}
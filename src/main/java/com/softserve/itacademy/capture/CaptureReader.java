@@ -0,0 +1,127 @@
+package com.softserve.itacademy.capture;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the format written by {@link CaptureWriter}.
+ */
+public class CaptureReader implements Closeable {
+
+    private final DataInputStream in;
+    private final List<String> dictionary = new ArrayList<>();
+    private final long startEpochMillis;
+
+    public CaptureReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+        if (this.in.readInt() != CaptureWriter.MAGIC) {
+            throw new IOException("Not a request capture");
+        }
+        int version = this.in.readUnsignedByte();
+        if (version != CaptureWriter.VERSION) {
+            throw new IOException("Unsupported capture version " + version);
+        }
+        startEpochMillis = this.in.readLong();
+    }
+
+    public long getStartEpochMillis() {
+        return startEpochMillis;
+    }
+
+    /**
+     * Returns the next request, or null at the end of the capture (including a record cut short by a crash).
+     */
+    public CapturedRequest read() throws IOException {
+        try {
+            while (true) {
+                int tag = in.read();
+                if (tag == -1) {
+                    return null;
+                }
+                if (tag == CaptureWriter.STRING) {
+                    dictionary.add(readText());
+                } else if (tag == CaptureWriter.REQUEST) {
+                    return readRequest();
+                } else {
+                    throw new IOException("Corrupt capture, unknown tag " + tag);
+                }
+            }
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    public List<CapturedRequest> readAll() throws IOException {
+        List<CapturedRequest> requests = new ArrayList<>();
+        CapturedRequest request;
+        while ((request = read()) != null) {
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private CapturedRequest readRequest() throws IOException {
+        long offset = readVarLong();
+        long duration = readVarLong();
+        int status = (int) readVarLong();
+        String method = readRef();
+        String template = readRef();
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (long i = readVarLong(); i > 0; i--) {
+            variables.put(readRef(), readText());
+        }
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        for (long i = readVarLong(); i > 0; i--) {
+            String name = readRef();
+            String[] values = new String[(int) readVarLong()];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = readText();
+            }
+            parameters.put(name, values);
+        }
+        return new CapturedRequest(offset, duration, method, template, variables, parameters, status);
+    }
+
+    private String readRef() throws IOException {
+        int id = (int) readVarLong();
+        if (id == 0) {
+            return readText();
+        }
+        if (id > dictionary.size()) {
+            throw new IOException("Corrupt capture, unknown string " + id);
+        }
+        return dictionary.get(id - 1);
+    }
+
+    private String readText() throws IOException {
+        byte[] bytes = new byte[(int) readVarLong()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Corrupt capture, varint too long");
+    }
+}
@@ -0,0 +1,89 @@
+package com.softserve.itacademy.capture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands captured requests to a background thread that writes them to a file. Request threads never wait on
+ * disk: when the queue is full the request is dropped and counted.
+ */
+public class CaptureRecorder implements Closeable {
+
+    private Logger logger = LoggerFactory.getLogger(CaptureRecorder.class);
+
+    private final long originNanos = System.nanoTime();
+    private final File file;
+    private final BlockingQueue<CapturedRequest> queue;
+    private final CaptureWriter writer;
+    private final Thread thread;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean running = true;
+
+    public CaptureRecorder(File file, int queueSize) throws IOException {
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.writer = new CaptureWriter(new FileOutputStream(file), System.currentTimeMillis());
+        this.thread = new Thread(this::drain, "request-capture");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        logger.info("Capturing requests to {}", file);
+    }
+
+    public long offsetMicros(long nanoTime) {
+        return TimeUnit.NANOSECONDS.toMicros(nanoTime - originNanos);
+    }
+
+    public void record(CapturedRequest request) {
+        if (!running || !queue.offer(request)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        running = false;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Stopped capturing requests to {}, {} dropped", file, dropped.get());
+    }
+
+    private void drain() {
+        try (CaptureWriter out = writer) {
+            while (running || !queue.isEmpty()) {
+                CapturedRequest request = queue.poll(1, TimeUnit.SECONDS);
+                if (request == null) {
+                    out.flush();
+                } else {
+                    out.write(request);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Request capture to {} failed, capturing stopped: {}", file, e.getMessage());
+            running = false;
+            queue.clear();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
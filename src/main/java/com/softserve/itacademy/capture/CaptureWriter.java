@@ -0,0 +1,124 @@
+package com.softserve.itacademy.capture;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary capture format:
+ * <pre>
+ * header  : int magic "TDLC", byte version, long capture start (epoch millis)
+ * entry   : byte tag, then
+ *   STRING  : text                        adds text to the dictionary under the next id (1, 2, ...)
+ *   REQUEST : varlong offset (us), varlong duration (us), varint status, ref method, ref template,
+ *             varint n, n x (ref name, text value), varint m, m x (ref name, varint k, k x text value)
+ * ref     : varint dictionary id, or 0 followed by an inline text
+ * text    : varint byte length, UTF-8 bytes
+ * </pre>
+ * Varints are unsigned LEB128. Methods, templates and parameter names repeat on every request, so they are written
+ * once and then referenced; the dictionary is capped so arbitrary parameter names cannot grow it without bound.
+ */
+public class CaptureWriter implements Closeable {
+
+    static final int MAGIC = 0x54444C43;
+    static final int VERSION = 1;
+    static final int STRING = 1;
+    static final int REQUEST = 2;
+    static final int MAX_DICTIONARY = 4096;
+
+    private final DataOutputStream out;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+
+    public CaptureWriter(OutputStream out, long startEpochMillis) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+        this.out.writeLong(startEpochMillis);
+    }
+
+    public void write(CapturedRequest request) throws IOException {
+        int method = intern(request.getMethod());
+        int template = intern(request.getTemplate());
+        int[] variableNames = internAll(request.getPathVariables().keySet().toArray(new String[0]));
+        int[] parameterNames = internAll(request.getParameters().keySet().toArray(new String[0]));
+
+        out.writeByte(REQUEST);
+        writeVarLong(request.getOffsetMicros());
+        writeVarLong(request.getDurationMicros());
+        writeVarLong(request.getStatus());
+        writeRef(method, request.getMethod());
+        writeRef(template, request.getTemplate());
+        writeVarLong(variableNames.length);
+        int i = 0;
+        for (Map.Entry<String, String> variable : request.getPathVariables().entrySet()) {
+            writeRef(variableNames[i++], variable.getKey());
+            writeText(variable.getValue());
+        }
+        writeVarLong(parameterNames.length);
+        i = 0;
+        for (Map.Entry<String, String[]> parameter : request.getParameters().entrySet()) {
+            writeRef(parameterNames[i++], parameter.getKey());
+            writeVarLong(parameter.getValue().length);
+            for (String value : parameter.getValue()) {
+                writeText(value);
+            }
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private int[] internAll(String[] names) throws IOException {
+        int[] ids = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            ids[i] = intern(names[i]);
+        }
+        return ids;
+    }
+
+    private int intern(String text) throws IOException {
+        Integer id = dictionary.get(text);
+        if (id != null) {
+            return id;
+        }
+        if (dictionary.size() >= MAX_DICTIONARY) {
+            return 0;
+        }
+        out.writeByte(STRING);
+        writeText(text);
+        dictionary.put(text, dictionary.size() + 1);
+        return dictionary.size();
+    }
+
+    private void writeRef(int id, String text) throws IOException {
+        writeVarLong(id);
+        if (id == 0) {
+            writeText(text);
+        }
+    }
+
+    private void writeText(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
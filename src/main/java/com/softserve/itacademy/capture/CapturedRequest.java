@@ -0,0 +1,92 @@
+package com.softserve.itacademy.capture;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * One captured request. {@code template} is the handler pattern (e.g. {@code /tasks/{task_id}/update/todos/{todo_id}})
+ * with its values in {@code pathVariables}, or the raw path when no pattern matched.
+ */
+public class CapturedRequest {
+
+    private final long offsetMicros;
+    private final long durationMicros;
+    private final String method;
+    private final String template;
+    private final Map<String, String> pathVariables;
+    private final Map<String, String[]> parameters;
+    private final int status;
+
+    public CapturedRequest(long offsetMicros, long durationMicros, String method, String template,
+                           Map<String, String> pathVariables, Map<String, String[]> parameters, int status) {
+        this.offsetMicros = offsetMicros;
+        this.durationMicros = durationMicros;
+        this.method = method;
+        this.template = template;
+        this.pathVariables = pathVariables;
+        this.parameters = parameters;
+        this.status = status;
+    }
+
+    public long getOffsetMicros() {
+        return offsetMicros;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public Map<String, String> getPathVariables() {
+        return pathVariables;
+    }
+
+    public Map<String, String[]> getParameters() {
+        return parameters;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getPath() {
+        String path = template;
+        for (Map.Entry<String, String> variable : pathVariables.entrySet()) {
+            path = path.replace("{" + variable.getKey() + "}", encode(variable.getValue()));
+        }
+        return path;
+    }
+
+    /**
+     * Parameters as {@code application/x-www-form-urlencoded}, usable as query string or form body.
+     */
+    public String getEncodedParameters() {
+        StringBuilder encoded = new StringBuilder();
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            for (String value : parameter.getValue()) {
+                if (encoded.length() > 0) {
+                    encoded.append('&');
+                }
+                encoded.append(encode(parameter.getKey())).append('=').append(encode(value));
+            }
+        }
+        return encoded.toString();
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
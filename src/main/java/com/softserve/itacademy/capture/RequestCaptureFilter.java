@@ -0,0 +1,93 @@
+package com.softserve.itacademy.capture;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Captures every request (method, handler pattern and path variables, parameters, timing, status) into
+ * {@code <directory>/capture-<epoch millis>.bin} for offline replay; see {@link CaptureWriter} for the format.
+ */
+@Component
+@ConditionalOnProperty(prefix = "todolist.capture", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CaptureProperties.class)
+public class RequestCaptureFilter extends OncePerRequestFilter {
+
+    static final String MASK = "****";
+
+    private final CaptureRecorder recorder;
+    private final Set<String> maskedParameters = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    public RequestCaptureFilter(CaptureProperties properties) throws IOException {
+        File directory = new File(properties.getDirectory());
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create capture directory " + directory);
+        }
+        this.recorder = new CaptureRecorder(new File(directory, "capture-" + System.currentTimeMillis() + ".bin"),
+                properties.getQueueSize());
+        this.maskedParameters.addAll(properties.getMaskedParameters());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            chain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            recorder.record(capture(request, status, start, System.nanoTime()));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        recorder.close();
+    }
+
+    CaptureRecorder getRecorder() {
+        return recorder;
+    }
+
+    @SuppressWarnings("unchecked")
+    private CapturedRequest capture(HttpServletRequest request, int status, long start, long end) {
+        String template = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (template == null || template.contains("*") || variables == null) {
+            template = request.getRequestURI().substring(request.getContextPath().length());
+            variables = Collections.emptyMap();
+        }
+        Map<String, String[]> parameters = new LinkedHashMap<>(request.getParameterMap());
+        parameters.replaceAll((name, values) -> maskedParameters.contains(name) ? mask(values) : values);
+        return new CapturedRequest(recorder.offsetMicros(start), (end - start) / 1000, request.getMethod(),
+                template, new LinkedHashMap<>(variables), parameters, status);
+    }
+
+    private static String[] mask(String[] values) {
+        String[] masked = new String[values.length];
+        Arrays.fill(masked, MASK);
+        return masked;
+    }
+}
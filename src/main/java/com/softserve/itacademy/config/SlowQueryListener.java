@@ -0,0 +1,228 @@
+package com.softserve.itacademy.config;
+
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Fast path is a single elapsed-time comparison; everything else runs only for statements over the threshold.
+// Writes report their update count. Selects report rows=? unless result sets are proxied (count-rows=true);
+// they are then reported when the result set is closed, so the row count is what the caller actually read.
+public class SlowQueryListener implements QueryExecutionListener, ResultSetProxyLogicFactory {
+
+    static final String MASK = "****";
+
+    private static final int MAX_BATCH_ENTRIES = 10;
+    private static final Pattern COMPARISON =
+            Pattern.compile("([a-z_][a-z0-9_.]*)\\s*(?:=|<>|!=|>=|<=|>|<|like)\\s*\\?");
+    private static final Pattern INSERT =
+            Pattern.compile("^\\s*insert\\s+into\\s+\\S+\\s*\\(([^)]*)\\)\\s*values\\s*\\(");
+
+    private Logger logger = LoggerFactory.getLogger(SlowQueryListener.class);
+
+    private final long thresholdMs;
+    private final Set<String> maskedColumns = new HashSet<>();
+
+    public SlowQueryListener(SlowQueryProperties properties) {
+        this.thresholdMs = properties.getThreshold().toMillis();
+        properties.getMaskedColumns().forEach(column -> maskedColumns.add(column.toLowerCase(Locale.ROOT)));
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMs) {
+            return;
+        }
+        SlowQuery query = new SlowQuery(execInfo, queryInfoList);
+        Object result = execInfo.getResult();
+        if (result instanceof ResultSet) {
+            try {
+                ResultSet resultSet = (ResultSet) result;
+                if (resultSet.isWrapperFor(RowCountingResultSet.class)) {
+                    resultSet.unwrap(RowCountingResultSet.class).slowQuery = query;
+                    return;
+                }
+            } catch (Exception e) {
+                logger.debug("Result set of a slow query could not be unwrapped", e);
+            }
+            query.log(null);
+            return;
+        }
+        query.log(rows(result));
+    }
+
+    @Override
+    public ResultSetProxyLogic create(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+        return new RowCountingResultSet(resultSet);
+    }
+
+    private static String rows(Object result) {
+        if (result instanceof Integer) {
+            return result.toString();
+        }
+        if (result instanceof int[]) {
+            return String.valueOf(Arrays.stream((int[]) result).filter(count -> count > 0).sum());
+        }
+        return null;
+    }
+
+    // 1-based indexes of parameters bound to masked columns, or null when they cannot be located in a write
+    Set<Integer> maskedParameters(String sql) {
+        String lower = sql.toLowerCase(Locale.ROOT);
+        if (maskedColumns.stream().noneMatch(lower::contains)) {
+            return new HashSet<>();
+        }
+        Set<Integer> indexes = new HashSet<>();
+        Matcher insert = INSERT.matcher(lower);
+        if (insert.find()) {
+            int before = countParameters(lower, insert.end());
+            String[] columns = insert.group(1).split(",");
+            for (int i = 0; i < columns.length; i++) {
+                if (maskedColumns.contains(columns[i].trim())) {
+                    indexes.add(before + i + 1);
+                }
+            }
+        }
+        Matcher comparison = COMPARISON.matcher(lower);
+        while (comparison.find()) {
+            String column = comparison.group(1);
+            column = column.substring(column.lastIndexOf('.') + 1);
+            if (maskedColumns.contains(column)) {
+                indexes.add(countParameters(lower, comparison.end()));
+            }
+        }
+        if (indexes.isEmpty() && (lower.trim().startsWith("insert") || lower.trim().startsWith("update"))) {
+            return null;
+        }
+        return indexes;
+    }
+
+    private static int countParameters(String sql, int end) {
+        int count = 0;
+        for (int i = 0; i < end; i++) {
+            if (sql.charAt(i) == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String handler() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Object handler = attributes == null ? null
+                : attributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod method = (HandlerMethod) handler;
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return Thread.currentThread().getName();
+    }
+
+    private class SlowQuery {
+        private final long elapsedMs;
+        private final String handler;
+        private final List<String> statements = new ArrayList<>();
+
+        SlowQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            this.elapsedMs = execInfo.getElapsedTime();
+            this.handler = handler();
+            for (QueryInfo queryInfo : queryInfoList) {
+                Set<Integer> masked = maskedParameters(queryInfo.getQuery());
+                StringJoiner parameters = new StringJoiner(", ", "[", "]");
+                List<List<ParameterSetOperation>> batch = queryInfo.getParametersList();
+                for (int i = 0; i < batch.size() && i < MAX_BATCH_ENTRIES; i++) {
+                    parameters.add(format(batch.get(i), masked));
+                }
+                if (batch.size() > MAX_BATCH_ENTRIES) {
+                    parameters.add("... " + (batch.size() - MAX_BATCH_ENTRIES) + " more");
+                }
+                boolean bound = !batch.isEmpty() && !batch.get(0).isEmpty();
+                statements.add(bound ? queryInfo.getQuery() + " " + parameters : queryInfo.getQuery());
+            }
+        }
+
+        private String format(List<ParameterSetOperation> operations, Set<Integer> masked) {
+            StringJoiner joiner = new StringJoiner(", ", "(", ")");
+            for (ParameterSetOperation operation : operations) {
+                Object[] args = operation.getArgs();
+                Object index = args[0];
+                boolean hide = masked == null || masked.contains(index);
+                Object value = ParameterSetOperation.isSetNullParameterOperation(operation) ? null : args[1];
+                joiner.add(index + "=" + (hide && value != null ? MASK : value));
+            }
+            return joiner.toString();
+        }
+
+        void log(String rows) {
+            logger.warn("Slow query {} ms, rows={}, handler={}, sql={}",
+                    elapsedMs, rows != null ? rows : "?", handler, statements);
+        }
+    }
+
+    private static class RowCountingResultSet implements ResultSetProxyLogic {
+        private final ResultSet target;
+        private SlowQuery slowQuery;
+        private int rows;
+
+        RowCountingResultSet(ResultSet target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("unwrap".equals(name) && args[0] == RowCountingResultSet.class) {
+                return this;
+            }
+            if ("isWrapperFor".equals(name) && args[0] == RowCountingResultSet.class) {
+                return true;
+            }
+            if ("getTarget".equals(name) && args == null) {
+                return target;
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (slowQuery != null) {
+                if ("next".equals(name) && Boolean.TRUE.equals(result)) {
+                    rows++;
+                } else if ("close".equals(name)) {
+                    SlowQuery query = slowQuery;
+                    slowQuery = null;
+                    query.log(String.valueOf(rows));
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.softserve.itacademy.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "todolist.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SlowQueryProperties.class)
+public class SlowQueryLogConfig {
+
+    // Static so the post processor does not pull this configuration (and its properties) in before binding
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                SlowQueryProperties slowQuery = properties.getObject();
+                SlowQueryListener listener = new SlowQueryListener(slowQuery);
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+                        .listener(listener);
+                // Wrapping result sets costs a reflective call per row and getter, so select row counts are opt-in
+                if (slowQuery.isCountRows()) {
+                    builder.proxyResultSet(listener);
+                }
+                return builder.build();
+            }
+        };
+    }
+}
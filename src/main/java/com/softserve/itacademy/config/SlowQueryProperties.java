@@ -0,0 +1,52 @@
+package com.softserve.itacademy.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@ConfigurationProperties("todolist.slow-query")
+public class SlowQueryProperties {
+
+    private boolean enabled = true;
+
+    private Duration threshold = Duration.ofMillis(200);
+
+    private boolean countRows = false;
+
+    private List<String> maskedColumns = new ArrayList<>(Collections.singletonList("password"));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public boolean isCountRows() {
+        return countRows;
+    }
+
+    public void setCountRows(boolean countRows) {
+        this.countRows = countRows;
+    }
+
+    public List<String> getMaskedColumns() {
+        return maskedColumns;
+    }
+
+    public void setMaskedColumns(List<String> maskedColumns) {
+        this.maskedColumns = maskedColumns;
+    }
+}
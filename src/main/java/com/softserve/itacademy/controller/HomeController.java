@@ -1,11 +1,16 @@
 package com.softserve.itacademy.controller;
 
+import com.softserve.itacademy.dto.UserSummary;
 import com.softserve.itacademy.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 public class HomeController {
@@ -18,9 +23,11 @@ public class HomeController {
     }
 
     @GetMapping({"/", "home"})
-    public String home(Model model) {
+    public String home(@PageableDefault(size = 50, sort = "id") Pageable pageable,
+                       @RequestParam(value = "after", required = false) Long after, Model model) {
         logger.info("Home page");
-        model.addAttribute("users", userService.getAll());
+        Slice<UserSummary> page = userService.getPage(pageable, after);
+        UserController.addPage(page, after, model);
         return "home";
     }
 }
@@ -1,20 +1,32 @@
 package com.softserve.itacademy.controller;
 
 import com.softserve.itacademy.dto.TaskDto;
+import com.softserve.itacademy.dto.TaskSearchResult;
 import com.softserve.itacademy.dto.TaskTransformer;
+import com.softserve.itacademy.exception.NotFoundResponder;
 import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.State;
 import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.ToDo;
 import com.softserve.itacademy.service.StateService;
 import com.softserve.itacademy.service.TaskService;
 import com.softserve.itacademy.service.ToDoService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
 @Controller
 @RequestMapping("/tasks")
 public class TaskController {
@@ -24,11 +36,14 @@ public class TaskController {
     private final TaskService taskService;
     private final ToDoService todoService;
     private final StateService stateService;
+    private final NotFoundResponder notFound;
 
-    public TaskController(TaskService taskService, ToDoService todoService, StateService stateService) {
+    public TaskController(TaskService taskService, ToDoService todoService, StateService stateService,
+                          NotFoundResponder notFound) {
         this.taskService = taskService;
         this.todoService = todoService;
         this.stateService = stateService;
+        this.notFound = notFound;
     }
 
     @GetMapping("/create/todos/{todo_id}")
@@ -58,10 +73,63 @@ public class TaskController {
         return "redirect:/todos/" + todoId + "/tasks";
     }
 
+    @GetMapping("/import/todos/{todo_id}")
+    public String importTasks(@PathVariable("todo_id") long todoId, Model model) {
+        logger.info("Importing tasks, toDoId = {}", todoId);
+        model.addAttribute("todo", todoService.readById(todoId));
+        model.addAttribute("priorities", Priority.values());
+        return "import-tasks";
+    }
+
+    @PostMapping("/import/todos/{todo_id}")
+    public String importTasks(@PathVariable("todo_id") long todoId, Model model,
+                              @RequestParam("tasks") String lines,
+                              @RequestParam(value = "priority", defaultValue = "MEDIUM") Priority defaultPriority) {
+        ToDo todo = todoService.readById(todoId);
+        State state = stateService.getByName("New");
+        List<Task> tasks = new ArrayList<>();
+        String[] rows = lines.split("\\r?\\n");
+        for (int i = 0; i < rows.length; i++) {
+            String row = rows[i].trim();
+            if (row.isEmpty()) {
+                continue;
+            }
+            int separator = row.lastIndexOf(';');
+            String name = separator < 0 ? row : row.substring(0, separator).trim();
+            Priority priority;
+            try {
+                priority = separator < 0
+                        ? defaultPriority : Priority.valueOf(row.substring(separator + 1).trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                priority = null;
+            }
+            if (name.isEmpty() || priority == null) {
+                model.addAttribute("todo", todo);
+                model.addAttribute("priorities", Priority.values());
+                model.addAttribute("tasks", lines);
+                model.addAttribute("error", "Line " + (i + 1) + " must be 'name' or 'name;priority'");
+                return "import-tasks";
+            }
+            TaskDto taskDto = new TaskDto();
+            taskDto.setTodoId(todoId);
+            taskDto.setName(name);
+            taskDto.setPriority(priority.name());
+            tasks.add(TaskTransformer.convertToEntity(taskDto, todo, state));
+        }
+        taskService.createAll(tasks);
+        logger.info("Imported {} tasks, toDoId = {}", tasks.size(), todoId);
+        return "redirect:/todos/" + todoId + "/tasks";
+    }
+
     @GetMapping("/{task_id}/update/todos/{todo_id}")
-    public String update(@PathVariable("task_id") long taskId, @PathVariable("todo_id") long todoId, Model model) {
+    public String update(@PathVariable("task_id") long taskId, @PathVariable("todo_id") long todoId, Model model,
+                         HttpServletResponse response) {
         logger.info("Updating task id = {}, toDoId = {}", taskId, todoId);
-        TaskDto taskDto = TaskTransformer.convertToDto(taskService.readById(taskId));
+        Optional<Task> task = taskService.findById(taskId);
+        if (!task.isPresent()) {
+            return notFound.render("Task", taskId, model, response);
+        }
+        TaskDto taskDto = TaskTransformer.convertToDto(task.get());
         model.addAttribute("task", taskDto);
         model.addAttribute("priorities", Priority.values());
         model.addAttribute("states", stateService.getAll());
@@ -86,10 +154,34 @@ public class TaskController {
         return "redirect:/todos/" + todoId + "/tasks";
     }
 
+    @PostMapping("/{task_id}/state/todos/{todo_id}")
+    public String updateState(@PathVariable("task_id") long taskId, @PathVariable("todo_id") long todoId,
+                              @RequestParam("stateId") long stateId, @RequestParam("version") long version) {
+        taskService.updateState(taskId, todoId, stateService.readById(stateId), version);
+        logger.info("Updated task state id = {}, toDoId = {}, stateId = {}", taskId, todoId, stateId);
+        return "redirect:/todos/" + todoId + "/tasks";
+    }
+
+    @PostMapping("/{task_id}/priority/todos/{todo_id}")
+    public String updatePriority(@PathVariable("task_id") long taskId, @PathVariable("todo_id") long todoId,
+                                 @RequestParam("priority") Priority priority, @RequestParam("version") long version) {
+        taskService.updatePriority(taskId, todoId, priority, version);
+        logger.info("Updated task priority id = {}, toDoId = {}, priority = {}", taskId, todoId, priority);
+        return "redirect:/todos/" + todoId + "/tasks";
+    }
+
     @GetMapping("/{task_id}/delete/todos/{todo_id}")
     public String delete(@PathVariable("task_id") long taskId, @PathVariable("todo_id") long todoId) {
         logger.info("Delete task id = {}, toDoId = {}", taskId, todoId);
         taskService.delete(taskId);
         return "redirect:/todos/" + todoId + "/tasks";
     }
+
+    @GetMapping(value = "/search/users/{user_id}", produces = "application/json")
+    @ResponseBody
+    public Slice<TaskSearchResult> search(@PathVariable("user_id") long userId, @RequestParam("q") String query,
+                                          @PageableDefault(size = 20) Pageable pageable) {
+        logger.info("Search tasks userId = {}, q = {}", userId, query);
+        return taskService.search(userId, query, pageable);
+    }
 }
@@ -1,36 +1,54 @@
 package com.softserve.itacademy.controller;
 
+import com.softserve.itacademy.dto.TaskFilter;
+import com.softserve.itacademy.dto.TaskStatsDto;
+import com.softserve.itacademy.dto.ToDoSummary;
+import com.softserve.itacademy.exception.NotFoundResponder;
+import com.softserve.itacademy.model.Priority;
 import com.softserve.itacademy.model.Task;
 import com.softserve.itacademy.model.ToDo;
 import com.softserve.itacademy.model.User;
+import com.softserve.itacademy.service.StateService;
 import com.softserve.itacademy.service.TaskService;
 import com.softserve.itacademy.service.ToDoService;
 import com.softserve.itacademy.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/todos")
 public class ToDoController {
 
+    private static final int PAGE_SIZE = 50;
+
     private final ToDoService todoService;
     private final TaskService taskService;
     private final UserService userService;
+    private final StateService stateService;
+    private final NotFoundResponder notFound;
     private Logger logger = LoggerFactory.getLogger(ToDoController.class);
 
-    public ToDoController(ToDoService todoService, TaskService taskService, UserService userService) {
+    public ToDoController(ToDoService todoService, TaskService taskService, UserService userService,
+                          StateService stateService, NotFoundResponder notFound) {
         this.todoService = todoService;
         this.taskService = taskService;
         this.userService = userService;
+        this.stateService = stateService;
+        this.notFound = notFound;
     }
 
     @GetMapping("/create/users/{owner_id}")
@@ -53,15 +71,18 @@ public class ToDoController {
     }
 
     @GetMapping("/{id}/tasks")
-    public String read(@PathVariable long id, Model model) {
+    public String read(@PathVariable long id, @ModelAttribute("filter") TaskFilter filter, BindingResult filterErrors,
+                       Model model, HttpServletResponse response) {
         logger.info("Read toDo id={}", id);
-        ToDo todo = todoService.readById(id);
-        List<Task> tasks = taskService.getByTodoId(id);
-        List<User> users = userService.getAll().stream()
-                .filter(user -> user.getId() != todo.getOwner().getId()).collect(Collectors.toList());
-        model.addAttribute("todo", todo);
+        Optional<ToDo> todo = todoService.findByIdWithCollaborators(id);
+        if (!todo.isPresent()) {
+            return notFound.render("To-Do", id, model, response);
+        }
+        List<Task> tasks = taskService.getByTodoId(id, filter);
+        model.addAttribute("todo", todo.get());
         model.addAttribute("tasks", tasks);
-        model.addAttribute("users", users);
+        model.addAttribute("states", stateService.getAll());
+        model.addAttribute("priorities", Priority.values());
         return "todo-tasks";
     }
 
@@ -95,33 +116,60 @@ public class ToDoController {
     }
 
     @GetMapping("/all/users/{user_id}")
-    public String getAll(@PathVariable("user_id") long userId, Model model) {
-        logger.info("GetAll toDo userId={}", userId);
-        List<ToDo> todos = todoService.getByUserId(userId);
+    public String getAll(@PathVariable("user_id") long userId,
+                         @RequestParam(value = "after_created", required = false)
+                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterCreatedAt,
+                         @RequestParam(value = "after_id", defaultValue = "0") long afterId, Model model,
+                         HttpServletResponse response) {
+        logger.info("GetAll toDo userId={}, afterCreatedAt={}, afterId={}", userId, afterCreatedAt, afterId);
+        Optional<User> user = userService.findById(userId);
+        if (!user.isPresent()) {
+            return notFound.render("User", userId, model, response);
+        }
+        List<ToDoSummary> todos = afterCreatedAt == null
+                ? todoService.getByUserId(userId, PAGE_SIZE)
+                : todoService.getByUserId(userId, afterCreatedAt, afterId, PAGE_SIZE);
         model.addAttribute("todos", todos);
-        model.addAttribute("user", userService.readById(userId));
+        model.addAttribute("stats", taskService.getStatsByTodoIds(
+                todos.stream().map(ToDoSummary::getId).collect(Collectors.toList())));
+        model.addAttribute("user", user.get());
+        if (todos.size() == PAGE_SIZE) {
+            model.addAttribute("next", todos.get(todos.size() - 1));
+        }
         return "todos-user";
     }
 
+    @GetMapping(value = "/all/users/{user_id}/stats", produces = "application/json")
+    @ResponseBody
+    public List<TaskStatsDto> stats(@PathVariable("user_id") long userId) {
+        logger.info("Stats toDo userId={}", userId);
+        return taskService.getStatsByUserId(userId);
+    }
+
+    @GetMapping(value = "/all/users/{user_id}/export", produces = "text/csv")
+    public void export(@PathVariable("user_id") long userId, HttpServletResponse response) throws IOException {
+        logger.info("Export toDo userId={}", userId);
+        response.setContentType("text/csv");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Content-Disposition", "attachment; filename=\"todos-" + userId + ".csv\"");
+        PrintWriter writer = response.getWriter();
+        writer.println("id,title,created_at,owner_id");
+        todoService.forEachByUserId(userId, todo -> writer.println(todo.getId() + ",\""
+                + todo.getTitle().replace("\"", "\"\"") + "\"," + todo.getCreatedAt() + "," + todo.getOwner().getId()));
+        writer.flush();
+    }
+
     @GetMapping("/{id}/add")
     public String addCollaborator(@PathVariable long id, @RequestParam("user_id") long userId) {
         logger.info("AddCollaborator toDoId = {}, userId={}", id, userId);
-        ToDo todo = todoService.readById(id);
-        List<User> collaborators = todo.getCollaborators();
-        collaborators.add(userService.readById(userId));
-        todo.setCollaborators(collaborators);
-        todoService.update(todo);
+        todoService.addCollaborator(id, userId);
         return "redirect:/todos/" + id + "/tasks";
     }
 
     @GetMapping("/{id}/remove")
     public String removeCollaborator(@PathVariable long id, @RequestParam("user_id") long userId) {
         logger.info("RemoveCollaborator toDoId = {}, userId={}", id, userId);
-        ToDo todo = todoService.readById(id);
-        List<User> collaborators = todo.getCollaborators();
-        collaborators.remove(userService.readById(userId));
-        todo.setCollaborators(collaborators);
-        todoService.update(todo);
+        todoService.removeCollaborator(id, userId);
         return "redirect:/todos/" + id + "/tasks";
     }
 }
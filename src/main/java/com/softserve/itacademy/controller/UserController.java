@@ -1,16 +1,26 @@
 package com.softserve.itacademy.controller;
 
+import com.softserve.itacademy.dto.UserSummary;
+import com.softserve.itacademy.exception.NotFoundResponder;
 import com.softserve.itacademy.model.User;
 import com.softserve.itacademy.service.RoleService;
 import com.softserve.itacademy.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Optional;
+
 @Controller
 @RequestMapping("/users")
 public class UserController {
@@ -19,10 +29,12 @@ public class UserController {
 
     private final UserService userService;
     private final RoleService roleService;
+    private final NotFoundResponder notFound;
 
-    public UserController(UserService userService, RoleService roleService) {
+    public UserController(UserService userService, RoleService roleService, NotFoundResponder notFound) {
         this.userService = userService;
         this.roleService = roleService;
+        this.notFound = notFound;
     }
 
     @GetMapping("/create")
@@ -45,10 +57,13 @@ public class UserController {
     }
 
     @GetMapping("/{id}/read")
-    public String read(@PathVariable long id, Model model) {
+    public String read(@PathVariable long id, Model model, HttpServletResponse response) {
         logger.info("Read user id = {}", id);
-        User user = userService.readById(id);
-        model.addAttribute("user", user);
+        Optional<User> user = userService.findById(id);
+        if (!user.isPresent()) {
+            return notFound.render("User", id, model, response);
+        }
+        model.addAttribute("user", user.get());
         return "user-info";
     }
 
@@ -89,9 +104,32 @@ public class UserController {
     }
 
     @GetMapping("/all")
-    public String getAll(Model model) {
-        logger.info("Get all users");
-        model.addAttribute("users", userService.getAll());
+    public String getAll(@PageableDefault(size = 50, sort = "id") Pageable pageable,
+                         @RequestParam(value = "after", required = false) Long after, Model model) {
+        logger.info("Get all users after = {}, sort = {}", after, pageable.getSort());
+        Slice<UserSummary> page = userService.getPage(pageable, after);
+        addPage(page, after, model);
         return "users-list";
     }
+
+    // Links carry the sort actually applied (one property and its direction) and the id of the last row
+    static void addPage(Slice<UserSummary> page, Long after, Model model) {
+        Sort.Order order = page.getSort().iterator().next();
+        model.addAttribute("users", page.getContent());
+        model.addAttribute("page", page);
+        model.addAttribute("after", after);
+        model.addAttribute("sort", order.getProperty() + "," + order.getDirection().name().toLowerCase());
+        if (page.hasNext()) {
+            model.addAttribute("next", page.getContent().get(page.getNumberOfElements() - 1).getId());
+        }
+    }
+
+    @GetMapping(value = "/search", produces = "application/json")
+    @ResponseBody
+    public List<UserSummary> search(@RequestParam("q") String query,
+                                    @RequestParam(value = "exclude", defaultValue = "0") long excludedId,
+                                    @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        logger.info("Search users q = {}, limit = {}", query, limit);
+        return userService.search(query, excludedId, limit);
+    }
 }
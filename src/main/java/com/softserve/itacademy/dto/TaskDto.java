@@ -19,15 +19,18 @@ public class TaskDto {
     @NotNull
     private long stateId;
 
+    private long version;
+
     public TaskDto() {
     }
 
-    public TaskDto(long id, String name, String priority, long todoId, long stateId) {
+    public TaskDto(long id, String name, String priority, long todoId, long stateId, long version) {
         this.id = id;
         this.name = name;
         this.priority = priority;
         this.todoId = todoId;
         this.stateId = stateId;
+        this.version = version;
     }
 
     public long getId() {
@@ -70,6 +73,14 @@ public class TaskDto {
         this.stateId = stateId;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -80,6 +91,7 @@ public class TaskDto {
         if (id != taskDto.id) return false;
         if (todoId != taskDto.todoId) return false;
         if (stateId != taskDto.stateId) return false;
+        if (version != taskDto.version) return false;
         if (!Objects.equals(name, taskDto.name)) return false;
         return Objects.equals(priority, taskDto.priority);
     }
@@ -91,6 +103,7 @@ public class TaskDto {
         result = 31 * result + (priority != null ? priority.hashCode() : 0);
         result = 31 * result + (int) (todoId ^ (todoId >>> 32));
         result = 31 * result + (int) (stateId ^ (stateId >>> 32));
+        result = 31 * result + (int) (version ^ (version >>> 32));
         return result;
     }
 }
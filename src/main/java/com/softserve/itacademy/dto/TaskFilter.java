@@ -0,0 +1,62 @@
+package com.softserve.itacademy.dto;
+
+import com.softserve.itacademy.model.Priority;
+
+public class TaskFilter {
+    private Long state;
+
+    private Priority priority;
+
+    private String name;
+
+    private String sort = "id";
+
+    private boolean desc;
+
+    public TaskFilter() {
+    }
+
+    public Long getState() {
+        return state;
+    }
+
+    public void setState(Long state) {
+        this.state = state;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public boolean isDesc() {
+        return desc;
+    }
+
+    public void setDesc(boolean desc) {
+        this.desc = desc;
+    }
+
+    public boolean isFiltered() {
+        return state != null || priority != null || (name != null && !name.trim().isEmpty());
+    }
+}
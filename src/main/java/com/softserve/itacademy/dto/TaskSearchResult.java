@@ -0,0 +1,25 @@
+package com.softserve.itacademy.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.softserve.itacademy.model.Priority;
+
+public interface TaskSearchResult {
+    long getId();
+
+    String getName();
+
+    @JsonIgnore
+    Short getPriorityCode();
+
+    default String getPriority() {
+        return getPriorityCode() == null ? null : Priority.fromCode(getPriorityCode()).name();
+    }
+
+    String getState();
+
+    long getTodoId();
+
+    String getTodoTitle();
+
+    double getRank();
+}
@@ -0,0 +1,51 @@
+package com.softserve.itacademy.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class TaskStatsDto {
+    private long todoId;
+
+    private long total;
+
+    private Map<String, Long> byState = new LinkedHashMap<>();
+
+    private Map<String, Long> byPriority = new LinkedHashMap<>();
+
+    public TaskStatsDto() {
+    }
+
+    public TaskStatsDto(long todoId) {
+        this.todoId = todoId;
+    }
+
+    public void add(String state, String priority, long count) {
+        total += count;
+        if (state != null) {
+            byState.merge(state, count, Long::sum);
+        }
+        if (priority != null) {
+            byPriority.merge(priority, count, Long::sum);
+        }
+    }
+
+    public long getTodoId() {
+        return todoId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getDone() {
+        return byState.getOrDefault("Done", 0L);
+    }
+
+    public Map<String, Long> getByState() {
+        return byState;
+    }
+
+    public Map<String, Long> getByPriority() {
+        return byPriority;
+    }
+}
@@ -0,0 +1,17 @@
+package com.softserve.itacademy.dto;
+
+import java.time.LocalDateTime;
+
+public interface ToDoSummary {
+    long getId();
+
+    String getTitle();
+
+    LocalDateTime getCreatedAt();
+
+    long getOwnerId();
+
+    String getOwnerFirstName();
+
+    String getOwnerLastName();
+}
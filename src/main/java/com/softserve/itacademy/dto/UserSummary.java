@@ -0,0 +1,11 @@
+package com.softserve.itacademy.dto;
+
+public interface UserSummary {
+    long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+}
@@ -1,7 +1,9 @@
 package com.softserve.itacademy.exception;
 
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;import org.springframework.http.HttpStatus;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -15,6 +17,12 @@ public class GlobalExceptionHandler {
 
     Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final NotFoundResponder notFound;
+
+    public GlobalExceptionHandler(NotFoundResponder notFound) {
+        this.notFound = notFound;
+    }
+
     @ExceptionHandler(NullEntityReferenceException.class)
     @ResponseStatus(value = HttpStatus.BAD_REQUEST)
     public ModelAndView nullEntityReferenceExceptionHandler(HttpServletRequest request, NullEntityReferenceException exception) {
@@ -24,7 +32,17 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(EntityNotFoundException.class)
     @ResponseStatus(value= HttpStatus.NOT_FOUND)
     public ModelAndView entityNotFoundExceptionHandler(HttpServletRequest request, EntityNotFoundException exception) {
-        return getModelAndView(request, HttpStatus.NOT_FOUND, exception);
+        notFound.count(exception instanceof NotFoundException ? ((NotFoundException) exception).getEntity() : "unknown");
+        logger.debug("Not found = {} :: URL = {}", exception.getMessage(), request.getRequestURL());
+        ModelAndView modelAndView = new ModelAndView(NotFoundResponder.VIEW);
+        modelAndView.addObject("error", exception.getMessage());
+        return modelAndView;
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    @ResponseStatus(value= HttpStatus.CONFLICT)
+    public ModelAndView optimisticLockingFailureHandler(HttpServletRequest request, ObjectOptimisticLockingFailureException exception) {
+        return getModelAndView(request, HttpStatus.CONFLICT, exception);
     }
 
     @ExceptionHandler(Exception.class)
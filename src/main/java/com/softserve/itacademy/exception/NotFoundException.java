@@ -0,0 +1,27 @@
+package com.softserve.itacademy.exception;
+
+import javax.persistence.EntityNotFoundException;
+
+// A miss is an expected outcome, so no stack trace is captured
+public class NotFoundException extends EntityNotFoundException {
+
+    private final String entity;
+
+    public NotFoundException(String entity, long id) {
+        this(entity, entity + " with id " + id + " not found");
+    }
+
+    public NotFoundException(String entity, String message) {
+        super(message);
+        this.entity = entity;
+    }
+
+    public String getEntity() {
+        return entity;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
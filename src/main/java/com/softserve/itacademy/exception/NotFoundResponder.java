@@ -0,0 +1,42 @@
+package com.softserve.itacademy.exception;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.ui.Model;
+
+import javax.servlet.http.HttpServletResponse;
+
+// Misses are counted in todolist.not_found instead of being logged one by one
+@Component
+public class NotFoundResponder {
+
+    public static final String MISSES = "todolist.not_found";
+    public static final String VIEW = "non-found";
+
+    private Logger logger = LoggerFactory.getLogger(NotFoundResponder.class);
+
+    private final MeterRegistry registry;
+
+    public NotFoundResponder(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public String render(String entity, long id, Model model, HttpServletResponse response) {
+        return render(entity, entity + " with id " + id + " not found", model, response);
+    }
+
+    public String render(String entity, String message, Model model, HttpServletResponse response) {
+        count(entity);
+        logger.debug(message);
+        response.setStatus(HttpStatus.NOT_FOUND.value());
+        model.addAttribute("error", message);
+        return VIEW;
+    }
+
+    public void count(String entity) {
+        registry.counter(MISSES, "entity", entity).increment();
+    }
+}
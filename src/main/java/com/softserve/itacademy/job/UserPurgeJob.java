@@ -0,0 +1,39 @@
+package com.softserve.itacademy.job;
+
+import com.softserve.itacademy.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityNotFoundException;
+
+@Component
+@ConditionalOnProperty(name = "todolist.users.soft-delete", havingValue = "true")
+public class UserPurgeJob {
+
+    private Logger logger = LoggerFactory.getLogger(UserPurgeJob.class);
+
+    private UserService userService;
+
+    @Value("${todolist.users.purge-batch-size:100}")
+    private int batchSize;
+
+    public UserPurgeJob(UserService userService) {
+        this.userService = userService;
+    }
+
+    // Each user is purged in its own transaction so one account never holds locks for the whole batch
+    @Scheduled(fixedDelayString = "${todolist.users.purge-delay-ms:60000}")
+    public void purgeDeletedUsers() {
+        for (long id : userService.getDeletedIds(batchSize)) {
+            try {
+                userService.purge(id);
+            } catch (EntityNotFoundException e) {
+                logger.debug("User with id {} was already purged", id);
+            }
+        }
+    }
+}
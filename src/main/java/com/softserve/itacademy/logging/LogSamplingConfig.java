@@ -0,0 +1,61 @@
+package com.softserve.itacademy.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.softserve.itacademy.exception.GlobalExceptionHandler;
+import com.softserve.itacademy.metrics.StatementBudgetFilter;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnClass(LoggerContext.class)
+@ConditionalOnProperty(name = "todolist.log-sampling.enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(LogSamplingProperties.class)
+public class LogSamplingConfig implements DisposableBean {
+
+    private SamplingTurboFilter filter;
+
+    @Bean
+    public SamplingTurboFilter samplingTurboFilter(LogSamplingProperties properties) {
+        filter = new SamplingTurboFilter(properties.getDefaultRate(), properties.getBurst());
+        filter.setMaxTemplates(properties.getMaxTemplatesPerLogger());
+        properties.getRates().forEach(filter::setRate);
+        List<String> alwaysLog = new ArrayList<>(properties.getAlwaysLog());
+        alwaysLog.add(GlobalExceptionHandler.class.getName());
+        // One line per request carrying sqlStatements; sampling it would blind the N+1 report
+        alwaysLog.add(StatementBudgetFilter.class.getName());
+        filter.setAlwaysLog(alwaysLog);
+        filter.setName("sampling");
+        filter.start();
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).addTurboFilter(filter);
+        return filter;
+    }
+
+    @Bean
+    public LogSamplingEndpoint logSamplingEndpoint(SamplingTurboFilter samplingTurboFilter) {
+        return new LogSamplingEndpoint(samplingTurboFilter);
+    }
+
+    @Scheduled(fixedDelayString = "${todolist.log-sampling.summary-interval-ms:30000}")
+    public void flushSuppressed() {
+        if (filter != null) {
+            filter.flush();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (filter != null) {
+            filter.flush();
+            ((LoggerContext) LoggerFactory.getILoggerFactory()).getTurboFilterList().remove(filter);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.softserve.itacademy.logging;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Endpoint(id = "logsampling")
+public class LogSamplingEndpoint {
+
+    private final SamplingTurboFilter filter;
+
+    public LogSamplingEndpoint(SamplingTurboFilter filter) {
+        this.filter = filter;
+    }
+
+    @ReadOperation
+    public Map<String, Object> sampling() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", filter.isEnabled());
+        result.put("defaultRate", filter.getDefaultRate());
+        result.put("burst", filter.getBurst());
+        result.put("maxTemplates", filter.getMaxTemplates());
+        result.put("rates", filter.getRates());
+        result.put("alwaysLog", filter.getAlwaysLog());
+        result.put("suppressed", filter.getSuppressedCounts());
+        return result;
+    }
+
+    // POST {"logger": "...", "rate": 1} sets a per-logger rate ("rate": null removes it);
+    // without a logger, rate sets the default; "enabled" and "burst" switch sampling and bucket size
+    @WriteOperation
+    public Map<String, Object> configure(@Nullable String logger, @Nullable Double rate,
+                                         @Nullable Double burst, @Nullable Boolean enabled) {
+        if (enabled != null) {
+            filter.setEnabled(enabled);
+        }
+        if (burst != null) {
+            filter.setBurst(burst);
+        }
+        if (logger != null) {
+            filter.setRate(logger, rate);
+        } else if (rate != null) {
+            filter.setDefaultRate(rate);
+        }
+        return sampling();
+    }
+}
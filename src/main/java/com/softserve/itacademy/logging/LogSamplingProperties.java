@@ -0,0 +1,85 @@
+package com.softserve.itacademy.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties("todolist.log-sampling")
+public class LogSamplingProperties {
+
+    private boolean enabled = true;
+
+    // Events per second per logger and message template; a negative rate disables sampling
+    private double defaultRate = 10;
+
+    private double burst = 20;
+
+    // Keyed by logger name or package prefix
+    private Map<String, Double> rates = new HashMap<>();
+
+    private List<String> alwaysLog = new ArrayList<>();
+
+    // Distinct message templates tracked per logger; the rest share one bucket
+    private int maxTemplatesPerLogger = SamplingTurboFilter.DEFAULT_MAX_TEMPLATES;
+
+    private long summaryIntervalMs = 30000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getDefaultRate() {
+        return defaultRate;
+    }
+
+    public void setDefaultRate(double defaultRate) {
+        this.defaultRate = defaultRate;
+    }
+
+    public double getBurst() {
+        return burst;
+    }
+
+    public void setBurst(double burst) {
+        this.burst = burst;
+    }
+
+    public Map<String, Double> getRates() {
+        return rates;
+    }
+
+    public void setRates(Map<String, Double> rates) {
+        this.rates = rates;
+    }
+
+    public List<String> getAlwaysLog() {
+        return alwaysLog;
+    }
+
+    public void setAlwaysLog(List<String> alwaysLog) {
+        this.alwaysLog = alwaysLog;
+    }
+
+    public int getMaxTemplatesPerLogger() {
+        return maxTemplatesPerLogger;
+    }
+
+    public void setMaxTemplatesPerLogger(int maxTemplatesPerLogger) {
+        this.maxTemplatesPerLogger = maxTemplatesPerLogger;
+    }
+
+    public long getSummaryIntervalMs() {
+        return summaryIntervalMs;
+    }
+
+    public void setSummaryIntervalMs(long summaryIntervalMs) {
+        this.summaryIntervalMs = summaryIntervalMs;
+    }
+}
@@ -0,0 +1,38 @@
+package com.softserve.itacademy.logging;
+
+import org.slf4j.MDC;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+// Path variables are only known after handler mapping, so ids are added here rather than in RequestMdcFilter
+public class RequestMdcInterceptor implements HandlerInterceptor {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null) {
+            return true;
+        }
+        String userId = variables.containsKey("user_id") ? variables.get("user_id") : variables.get("owner_id");
+        String todoId = variables.get("todo_id");
+        if (todoId == null && request.getRequestURI().startsWith(request.getContextPath() + "/todos/")) {
+            todoId = variables.get("id");
+        }
+        if (userId == null && request.getRequestURI().startsWith(request.getContextPath() + "/users/")) {
+            userId = variables.get("id");
+        }
+        if (userId != null) {
+            MDC.put(RequestMdcFilter.USER_ID, userId);
+        }
+        if (todoId != null) {
+            MDC.put(RequestMdcFilter.TODO_ID, todoId);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,216 @@
+package com.softserve.itacademy.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate limits TRACE..INFO events with a token bucket per logger and message template.
+ * WARN and above, events carrying a throwable and loggers listed as always-log pass untouched.
+ * Suppressed events are counted and reported as "N similar messages suppressed" when the template
+ * is let through again or on {@link #flush()}.
+ * Each logger keeps at most {@code maxTemplates} buckets; further templates (typically pre-formatted
+ * messages from libraries) share one overflow bucket, so memory stays bounded however many distinct messages arrive.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    public static final Marker SUMMARY = MarkerFactory.getMarker("SAMPLING_SUMMARY");
+    public static final String OTHER_TEMPLATES = "(other templates)";
+    public static final int DEFAULT_MAX_TEMPLATES = 100;
+
+    private final ConcurrentHashMap<String, LoggerBuckets> loggers = new ConcurrentHashMap<>();
+    private final Map<String, Double> rates = new ConcurrentHashMap<>();
+    private final Set<String> alwaysLog = ConcurrentHashMap.newKeySet();
+    private volatile double defaultRate;
+    private volatile double burst;
+    private volatile boolean enabled = true;
+    private volatile int maxTemplates = DEFAULT_MAX_TEMPLATES;
+
+    public SamplingTurboFilter(double defaultRate, double burst) {
+        this.defaultRate = defaultRate;
+        this.burst = burst;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!enabled || format == null || t != null || level.isGreaterOrEqual(Level.WARN)
+                || marker == SUMMARY || !logger.isEnabledFor(level)) {
+            return FilterReply.NEUTRAL;
+        }
+        LoggerBuckets cached = loggers.get(logger.getName());
+        LoggerBuckets buckets = cached != null ? cached : loggers.computeIfAbsent(logger.getName(), this::createBuckets);
+        if (buckets.rate < 0) {
+            return FilterReply.NEUTRAL;
+        }
+        Bucket bucket = buckets.templates.get(format);
+        if (bucket == null) {
+            String key = buckets.templates.size() < maxTemplates ? format : OTHER_TEMPLATES;
+            bucket = buckets.templates.computeIfAbsent(key, ignored -> new Bucket(buckets.rate, burst));
+        }
+        long suppressed = bucket.acquire();
+        if (suppressed < 0) {
+            return FilterReply.DENY;
+        }
+        if (suppressed > 0) {
+            logger.info(SUMMARY, "{} similar messages suppressed: {}", suppressed, format);
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private LoggerBuckets createBuckets(String name) {
+        if (alwaysLog.contains(name)) {
+            return new LoggerBuckets(-1);
+        }
+        String match = null;
+        for (String prefix : rates.keySet()) {
+            if ((name.equals(prefix) || name.startsWith(prefix + ".")) && (match == null || prefix.length() > match.length())) {
+                match = prefix;
+            }
+        }
+        return new LoggerBuckets(match != null ? rates.get(match) : defaultRate);
+    }
+
+    // Reports suppressed counts that were not followed by a passing event of the same template
+    public void flush() {
+        for (Map.Entry<String, LoggerBuckets> entry : loggers.entrySet()) {
+            org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(entry.getKey());
+            for (Map.Entry<String, Bucket> template : entry.getValue().templates.entrySet()) {
+                long suppressed = template.getValue().drainSuppressed();
+                if (suppressed > 0) {
+                    logger.info(SUMMARY, "{} similar messages suppressed: {}", suppressed, template.getKey());
+                }
+            }
+        }
+    }
+
+    public Map<String, Long> getSuppressedCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        loggers.forEach((name, buckets) -> buckets.templates.forEach((format, bucket) -> {
+            if (bucket.totalSuppressed > 0) {
+                counts.put(name + " : " + format, bucket.totalSuppressed);
+            }
+        }));
+        return counts;
+    }
+
+    // Buckets are rebuilt lazily with the new settings; pending suppressed counts are reported first
+    private void reset() {
+        flush();
+        loggers.clear();
+    }
+
+    public void setRate(String loggerName, Double rate) {
+        if (rate == null) {
+            rates.remove(loggerName);
+        } else {
+            rates.put(loggerName, rate);
+        }
+        reset();
+    }
+
+    public void setDefaultRate(double defaultRate) {
+        this.defaultRate = defaultRate;
+        reset();
+    }
+
+    public void setBurst(double burst) {
+        this.burst = burst;
+        reset();
+    }
+
+    public void setAlwaysLog(List<String> loggerNames) {
+        alwaysLog.clear();
+        alwaysLog.addAll(loggerNames);
+        reset();
+    }
+
+    public void setMaxTemplates(int maxTemplates) {
+        this.maxTemplates = maxTemplates;
+        reset();
+    }
+
+    public int getMaxTemplates() {
+        return maxTemplates;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public double getDefaultRate() {
+        return defaultRate;
+    }
+
+    public double getBurst() {
+        return burst;
+    }
+
+    public Map<String, Double> getRates() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(rates));
+    }
+
+    public List<String> getAlwaysLog() {
+        return new ArrayList<>(alwaysLog);
+    }
+
+    private static class LoggerBuckets {
+        private final double rate;
+        private final ConcurrentHashMap<String, Bucket> templates = new ConcurrentHashMap<>();
+
+        LoggerBuckets(double rate) {
+            this.rate = rate;
+        }
+    }
+
+    private static class Bucket {
+        private final double ratePerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+        private long suppressed;
+        private long totalSuppressed;
+
+        Bucket(double ratePerSecond, double capacity) {
+            this.ratePerNano = ratePerSecond / 1e9;
+            this.capacity = Math.max(capacity, 1);
+            this.tokens = this.capacity;
+        }
+
+        // -1 when the event must be dropped, otherwise the number suppressed since the last passing event
+        synchronized long acquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * ratePerNano);
+            refilledAt = now;
+            if (tokens < 1) {
+                suppressed++;
+                totalSuppressed++;
+                return -1;
+            }
+            tokens--;
+            long count = suppressed;
+            suppressed = 0;
+            return count;
+        }
+
+        synchronized long drainSuppressed() {
+            long count = suppressed;
+            suppressed = 0;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.softserve.itacademy.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Outermost advice, so service timings include the transaction commit
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MethodMetricsAspect {
+
+    public static final String SERVICE_TIMER = "todolist.service";
+    public static final String REPOSITORY_TIMER = "todolist.repository";
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+    // Timers are registered once per (class, method, exception); a call only looks them up and stops its sample
+    private final Map<String, Map<Method, MethodTimers>> timers = new ConcurrentHashMap<>();
+
+    public MethodMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.softserve.itacademy.service.impl.*ServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, joinPoint.getSignature().getDeclaringType().getSimpleName(), joinPoint);
+    }
+
+    @Around("execution(public * org.springframework.data.repository.Repository+.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, repositoryName(joinPoint.getThis()), joinPoint);
+    }
+
+    private Object time(String name, String className, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            MethodTimers methodTimers = timers.computeIfAbsent(className, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(method, key -> new MethodTimers(name, className, key.getName()));
+            sample.stop(methodTimers.get(failure));
+        }
+    }
+
+    // Repository beans are JDK proxies; name them after the application interface, not CrudRepository
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+            for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+                if (candidate.getName().startsWith("com.softserve.itacademy.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+
+    private final class MethodTimers {
+        private final String name;
+        private final String className;
+        private final String method;
+        private volatile Timer success;
+        private final Map<Class<?>, Timer> failures = new ConcurrentHashMap<>();
+
+        MethodTimers(String name, String className, String method) {
+            this.name = name;
+            this.className = className;
+            this.method = method;
+        }
+
+        Timer get(Throwable failure) {
+            if (failure == null) {
+                Timer timer = success;
+                if (timer == null) {
+                    timer = register("none");
+                    success = timer;
+                }
+                return timer;
+            }
+            return failures.computeIfAbsent(failure.getClass(), type -> register(type.getSimpleName()));
+        }
+
+        private Timer register(String exception) {
+            return Timer.builder(name)
+                    .tag("class", className)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.softserve.itacademy.metrics;
+
+public class StatementBudgetExceededException extends IllegalStateException {
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
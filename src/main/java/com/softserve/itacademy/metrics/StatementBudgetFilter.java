@@ -0,0 +1,86 @@
+package com.softserve.itacademy.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@EnableConfigurationProperties(StatementBudgetProperties.class)
+public class StatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String MDC_KEY = "sqlStatements";
+    public static final String SUMMARY = "todolist.request.statements";
+
+    private Logger logger = LoggerFactory.getLogger(StatementBudgetFilter.class);
+
+    private final StatementBudgetProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, Map<String, DistributionSummary>> summaries = new ConcurrentHashMap<>();
+
+    public StatementBudgetFilter(StatementBudgetProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (StatementCounter.Scope scope = StatementCounter.start()) {
+            chain.doFilter(request, response);
+            check(request, response, scope);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    // The completion line is logged while sqlStatements is in the MDC, so the request log carries the count
+    private void check(HttpServletRequest request, HttpServletResponse response, StatementCounter.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        int count = scope.getCount();
+        summary(request.getMethod(), uri).record(count);
+        MDC.put(MDC_KEY, String.valueOf(count));
+        logger.info("{} {} completed with status {}", request.getMethod(), uri, response.getStatus());
+        if (properties.getMode() == StatementBudgetProperties.Mode.OFF) {
+            return;
+        }
+        int budget = properties.budgetFor(uri);
+        if (budget > 0 && count > budget) {
+            report(request.getMethod() + " " + uri + " issued " + count + " statements, budget is " + budget);
+        }
+        if (scope.getMaxRepeats() >= properties.getRepeatThreshold()) {
+            report("Possible N+1 in " + request.getMethod() + " " + uri + ": statement executed "
+                    + scope.getMaxRepeats() + " times: " + scope.getMostRepeated());
+        }
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        return summaries.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(uri, key -> DistributionSummary.builder(SUMMARY)
+                        .baseUnit("statements")
+                        .tag("method", method)
+                        .tag("uri", key)
+                        .register(registry));
+    }
+
+    private void report(String message) {
+        if (properties.getMode() == StatementBudgetProperties.Mode.FAIL) {
+            throw new StatementBudgetExceededException(message);
+        }
+        logger.warn(message);
+    }
+}
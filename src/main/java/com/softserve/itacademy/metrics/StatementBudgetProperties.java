@@ -0,0 +1,57 @@
+package com.softserve.itacademy.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties("todolist.statements")
+public class StatementBudgetProperties {
+
+    public enum Mode { OFF, WARN, FAIL }
+
+    private Mode mode = Mode.WARN;
+
+    // 0 disables the check for endpoints without an explicit budget
+    private int defaultBudget;
+
+    private int repeatThreshold = 5;
+
+    private Map<String, Integer> budgets = new HashMap<>();
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getDefaultBudget() {
+        return defaultBudget;
+    }
+
+    public void setDefaultBudget(int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    public void setRepeatThreshold(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    public Map<String, Integer> getBudgets() {
+        return budgets;
+    }
+
+    public void setBudgets(Map<String, Integer> budgets) {
+        this.budgets = budgets;
+    }
+
+    public int budgetFor(String pattern) {
+        return budgets.getOrDefault(pattern, defaultBudget);
+    }
+}
@@ -0,0 +1,79 @@
+package com.softserve.itacademy.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Registered through hibernate.session_factory.statement_inspector; counts only inside an open Scope
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+
+    public static Scope start() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final Map<String, Integer> executions = new HashMap<>();
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String sql) {
+            count++;
+            executions.merge(sql, 1, Integer::sum);
+            if (parent != null) {
+                parent.record(sql);
+            }
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getMaxRepeats() {
+            int max = 0;
+            for (int repeats : executions.values()) {
+                max = Math.max(max, repeats);
+            }
+            return max;
+        }
+
+        public String getMostRepeated() {
+            String sql = null;
+            int max = 0;
+            for (Map.Entry<String, Integer> entry : executions.entrySet()) {
+                if (entry.getValue() > max) {
+                    sql = entry.getKey();
+                    max = entry.getValue();
+                }
+            }
+            return sql;
+        }
+
+        public void reset() {
+            count = 0;
+            executions.clear();
+        }
+
+        @Override
+        public void close() {
+            CURRENT.set(parent);
+        }
+    }
+}
@@ -1,5 +1,27 @@
 package com.softserve.itacademy.model;
 
+// Stored as its code (see PriorityConverter), so the column orders by rank; 0 is kept for "no priority" in counters
 public enum Priority {
-    LOW, MEDIUM, HIGH
+    LOW(1), MEDIUM(2), HIGH(3);
+
+    public static final short NONE = 0;
+
+    private final short code;
+
+    Priority(int code) {
+        this.code = (short) code;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    public static Priority fromCode(int code) {
+        for (Priority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown priority code " + code);
+    }
 }
@@ -0,0 +1,18 @@
+package com.softserve.itacademy.model;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+@Converter
+public class PriorityConverter implements AttributeConverter<Priority, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(Priority priority) {
+        return priority == null ? null : priority.getCode();
+    }
+
+    @Override
+    public Priority convertToEntityAttribute(Short code) {
+        return code == null ? null : Priority.fromCode(code);
+    }
+}
@@ -9,7 +9,8 @@ import java.util.Objects;
 @Table(name = "states")
 public class State {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "states_seq")
+    @SequenceGenerator(name = "states_seq", sequenceName = "states_seq", allocationSize = 50)
     private long id;
 
     @NotBlank(message = "The 'name' cannot be empty")
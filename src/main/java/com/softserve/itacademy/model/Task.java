@@ -4,17 +4,19 @@ import javax.persistence.*;
 import java.util.Objects;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks",
+        indexes = @Index(name = "tasks_todo_id_state_id_priority_idx", columnList = "todo_id, state_id, priority"))
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private long id;
 
     @Column(name = "name", nullable = false)
     private String name;
 
     @Column(name = "priority")
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = PriorityConverter.class)
     private Priority priority;
 
     @ManyToOne
@@ -25,6 +27,10 @@ public class Task {
     @JoinColumn(name = "state_id")
     private State state;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
     public Task() {
     }
 
@@ -68,6 +74,14 @@ public class Task {
         this.state = state;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Task {" +
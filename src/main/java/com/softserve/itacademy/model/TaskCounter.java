@@ -0,0 +1,38 @@
+package com.softserve.itacademy.model;
+
+import javax.persistence.*;
+
+// One row per (todo, state, priority); state_id 0 and priority 0 stand for a task without them
+@Entity
+@Table(name = "todo_task_counters")
+public class TaskCounter {
+    @EmbeddedId
+    private TaskCounterId id;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    public TaskCounter() {
+    }
+
+    public TaskCounter(TaskCounterId id, long taskCount) {
+        this.id = id;
+        this.taskCount = taskCount;
+    }
+
+    public TaskCounterId getId() {
+        return id;
+    }
+
+    public void setId(TaskCounterId id) {
+        this.id = id;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    public void setTaskCount(long taskCount) {
+        this.taskCount = taskCount;
+    }
+}
@@ -0,0 +1,55 @@
+package com.softserve.itacademy.model;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class TaskCounterId implements Serializable {
+
+    @Column(name = "todo_id", nullable = false)
+    private long todoId;
+
+    @Column(name = "state_id", nullable = false)
+    private long stateId;
+
+    @Column(name = "priority", nullable = false)
+    private short priority;
+
+    public TaskCounterId() {
+    }
+
+    public TaskCounterId(long todoId, long stateId, short priority) {
+        this.todoId = todoId;
+        this.stateId = stateId;
+        this.priority = priority;
+    }
+
+    public long getTodoId() {
+        return todoId;
+    }
+
+    public long getStateId() {
+        return stateId;
+    }
+
+    public short getPriority() {
+        return priority;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TaskCounterId that = (TaskCounterId) o;
+        return todoId == that.todoId &&
+                stateId == that.stateId &&
+                priority == that.priority;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(todoId, stateId, priority);
+    }
+}
@@ -7,10 +7,12 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "todos")
+@Table(name = "todos",
+        indexes = @Index(name = "todos_owner_id_created_at_id_idx", columnList = "owner_id, created_at, id"))
 public class ToDo {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private long id;
 
     @NotBlank(message = "The 'title' cannot be empty")
@@ -30,7 +32,11 @@ public class ToDo {
     @ManyToMany
     @JoinTable(name = "todo_collaborator",
             joinColumns = @JoinColumn(name = "todo_id"),
-            inverseJoinColumns = @JoinColumn(name = "collaborator_id"))
+            inverseJoinColumns = @JoinColumn(name = "collaborator_id"),
+            uniqueConstraints = @UniqueConstraint(name = "todo_collaborator_todo_id_collaborator_id_key",
+                    columnNames = {"todo_id", "collaborator_id"}),
+            indexes = @Index(name = "todo_collaborator_collaborator_id_todo_id_idx",
+                    columnList = "collaborator_id, todo_id"))
     private List<User> collaborators;
 
     public ToDo() {
@@ -1,15 +1,22 @@
 package com.softserve.itacademy.model;
 
+import org.hibernate.annotations.Where;
+
 import javax.persistence.*;
 import javax.validation.constraints.Pattern;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "users_first_name_id_idx", columnList = "first_name, id"),
+        @Index(name = "users_last_name_id_idx", columnList = "last_name, id")})
+@Where(clause = "deleted_at is null")
 public class User  {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private long id;
 
     @Pattern(regexp = "[A-Z][a-z]+",
@@ -31,6 +38,9 @@ public class User  {
     @Column(name = "password", nullable = false)
     private String password;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @ManyToOne
     @JoinColumn(name = "role_id")
     private Role role;
@@ -113,6 +123,14 @@ public class User  {
         this.role = role;
     }
 
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
     public List<ToDo> getMyTodos() {
         return myTodos;
     }
@@ -0,0 +1,38 @@
+package com.softserve.itacademy.repository;
+
+import com.softserve.itacademy.model.TaskCounter;
+import com.softserve.itacademy.model.TaskCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, TaskCounterId> {
+
+    @Query("select c from TaskCounter c where c.id.todoId in ?1 and c.taskCount <> 0")
+    List<TaskCounter> getByTodoIds(Collection<Long> todoIds);
+
+    @Query(value = "select * from todo_task_counters where task_count <> 0 and todo_id in (" +
+            "select id from todos where owner_id = ?1 " +
+            "union select todo_id from todo_collaborator where collaborator_id = ?1)", nativeQuery = true)
+    List<TaskCounter> getByUserId(long userId);
+
+    @Modifying
+    @Query(value = "insert into todo_task_counters (todo_id, state_id, priority, task_count) values (?1, ?2, ?3, ?4) " +
+            "on conflict (todo_id, state_id, priority) " +
+            "do update set task_count = todo_task_counters.task_count + excluded.task_count", nativeQuery = true)
+    int add(long todoId, long stateId, short priority, long delta);
+
+    @Modifying
+    @Query(value = "delete from todo_task_counters where todo_id = ?1", nativeQuery = true)
+    int deleteAllByTodoId(long todoId);
+
+    @Modifying
+    @Query(value = "delete from todo_task_counters where todo_id in (select id from todos where owner_id = ?1)",
+            nativeQuery = true)
+    int deleteAllByOwnerId(long ownerId);
+}
@@ -1,15 +1,76 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.TaskSearchResult;
 import com.softserve.itacademy.model.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
-    @Query(value = "select * from tasks where todo_id = ?1", nativeQuery = true)
+    @Query("select t from Task t left join fetch t.state where t.todo.id = ?1 order by t.id")
     List<Task> getByTodoId(long todoId);
+
+    boolean existsByIdAndTodoId(long id, long todoId);
+
+    // Ranks the matches among the user's newest ?5 accessible tasks; when that scan is cut short before filling
+    // the page, the first ?6 index hits are access-checked one by one instead, so a term that is rare for a
+    // user with many tasks is still found without reading all of them
+    @Query(value = "with examined as (select t.id, t.name_tsv from (" +
+            "(select id from todos where owner_id = ?1 order by created_at desc, id desc) union all " +
+            "(select todo_id from todo_collaborator where collaborator_id = ?1 order by todo_id desc)) a " +
+            "inner join tasks t on t.todo_id = a.id limit ?5 + 1), " +
+            "scanned as (select id, name_tsv from examined " +
+            "where name_tsv @@ websearch_to_tsquery('english', ?2) limit ?6), " +
+            "looked_up as (select h.id, h.name_tsv from (select id, todo_id, name_tsv from tasks " +
+            "where name_tsv @@ websearch_to_tsquery('english', ?2) limit ?6) h " +
+            "where (select count(*) from examined) > ?5 and (select count(*) from scanned) < ?3 + ?4 " +
+            "and ((select d.owner_id from todos d where d.id = h.todo_id) = ?1 or exists (" +
+            "select 1 from todo_collaborator c where c.todo_id = h.todo_id and c.collaborator_id = ?1))) " +
+            "select t.id, t.name, t.priority as \"priorityCode\", s.name as state, t.todo_id as \"todoId\", " +
+            "d.title as \"todoTitle\", m.rank from (" +
+            "select id, ts_rank(name_tsv, websearch_to_tsquery('english', ?2)) as rank from (" +
+            "select distinct id, name_tsv from (" +
+            "select id, name_tsv from scanned union all select id, name_tsv from looked_up) u) c " +
+            "order by rank desc, id limit ?3 offset ?4) m " +
+            "inner join tasks t on t.id = m.id inner join todos d on d.id = t.todo_id " +
+            "left join states s on s.id = t.state_id order by m.rank desc, m.id", nativeQuery = true)
+    List<TaskSearchResult> search(long userId, String query, int limit, long offset, int scanLimit, int lookupLimit);
+
+    String MOVE_COUNTERS = "insert into todo_task_counters (todo_id, state_id, priority, task_count) " +
+            "select todo_id, state_id, priority, sum(delta) from (" +
+            "select todo_id, coalesce(old_state_id, 0) state_id, coalesce(old_priority, 0) priority, -1 delta " +
+            "from changed union all " +
+            "select todo_id, coalesce(state_id, 0), coalesce(priority, 0), 1 from changed) d " +
+            "group by todo_id, state_id, priority " +
+            "on conflict (todo_id, state_id, priority) " +
+            "do update set task_count = todo_task_counters.task_count + excluded.task_count";
+
+    @Modifying
+    @Query(value = "with changed as (update tasks t set state_id = ?3, version = t.version + 1 from tasks old " +
+            "where t.id = ?1 and t.todo_id = ?2 and t.version = ?4 and old.id = t.id " +
+            "returning t.todo_id, old.state_id old_state_id, old.priority old_priority, t.state_id, t.priority) " +
+            MOVE_COUNTERS, nativeQuery = true)
+    int updateState(long id, long todoId, long stateId, long version);
+
+    @Modifying
+    @Query(value = "with changed as (update tasks t set priority = ?3, version = t.version + 1 from tasks old " +
+            "where t.id = ?1 and t.todo_id = ?2 and t.version = ?4 and old.id = t.id " +
+            "returning t.todo_id, old.state_id old_state_id, old.priority old_priority, t.state_id, t.priority) " +
+            MOVE_COUNTERS, nativeQuery = true)
+    int updatePriority(long id, long todoId, short priority, long version);
+
+    @Modifying
+    @Query(value = "delete from tasks where todo_id = ?1", nativeQuery = true)
+    int deleteAllByTodoId(long todoId);
+
+    @Modifying
+    @Query(value = "delete from tasks where todo_id in (select id from todos where owner_id = ?1)",
+            nativeQuery = true)
+    int deleteAllByOwnerId(long ownerId);
 }
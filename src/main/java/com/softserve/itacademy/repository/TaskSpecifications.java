@@ -0,0 +1,90 @@
+package com.softserve.itacademy.repository;
+
+import com.softserve.itacademy.dto.TaskFilter;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Building blocks for filtered task lists. Every filter is optional (null means "no restriction"), so the
+ * generated SQL only has the predicates actually requested and stays on the (todo_id, state_id, priority) index.
+ */
+public final class TaskSpecifications {
+
+    public static final List<String> SORTABLE = Arrays.asList("id", "name", "priority", "state");
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> filtered(long todoId, TaskFilter filter) {
+        return Specification.where(inTodo(todoId))
+                .and(inState(filter.getState()))
+                .and(withPriority(filter.getPriority()))
+                .and(nameStartsWith(filter.getName()))
+                .and(orderedBy(filter.getSort(), filter.isDesc()));
+    }
+
+    public static Specification<Task> inTodo(long todoId) {
+        return (root, query, cb) -> cb.equal(root.get("todo").get("id"), todoId);
+    }
+
+    public static Specification<Task> inState(Long stateId) {
+        return stateId == null ? null : (root, query, cb) -> cb.equal(root.get("state").get("id"), stateId);
+    }
+
+    public static Specification<Task> withPriority(Priority priority) {
+        return priority == null ? null : (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> nameStartsWith(String prefix) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return null;
+        }
+        String pattern = prefix.trim().toLowerCase()
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), pattern, '\\');
+    }
+
+    /**
+     * Fetches the state with the tasks and orders by one of {@link #SORTABLE} (anything else sorts by id),
+     * with id as the tie breaker. Count queries are left untouched.
+     */
+    public static Specification<Task> orderedBy(String sort, boolean desc) {
+        return (root, query, cb) -> {
+            if (Task.class.equals(query.getResultType())) {
+                root.fetch("state", JoinType.LEFT);
+                String column = SORTABLE.contains(sort) ? sort : "id";
+                Expression<?> key = sortKey(root, cb, column);
+                List<Order> orders = new ArrayList<>();
+                orders.add(desc ? cb.desc(key) : cb.asc(key));
+                if (!"id".equals(column)) {
+                    orders.add(cb.asc(root.get("id")));
+                }
+                query.orderBy(orders);
+            }
+            return null;
+        };
+    }
+
+    private static Expression<?> sortKey(Root<Task> root, CriteriaBuilder cb, String sort) {
+        if ("name".equals(sort)) {
+            return cb.lower(root.get("name"));
+        }
+        if ("priority".equals(sort)) {
+            return root.get("priority");
+        }
+        if ("state".equals(sort)) {
+            return root.get("state").get("id");
+        }
+        return root.get("id");
+    }
+}
@@ -1,17 +1,85 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.ToDoSummary;
 import com.softserve.itacademy.model.ToDo;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface ToDoRepository extends JpaRepository<ToDo, Long> {
 
+    @EntityGraph(attributePaths = {"owner.role", "collaborators.role"})
+    @Query("select t from ToDo t where t.id = ?1")
+    Optional<ToDo> findWithCollaboratorsById(long id);
+
     @Query(value = "select id, title, created_at, owner_id from todos where owner_id = ?1 union " +
             "select id, title, created_at, owner_id from todos inner join todo_collaborator on id = todo_id and " +
             "collaborator_id = ?1", nativeQuery = true)
     List<ToDo> getByUserId(long userId);
+
+    // The owner is joined in after the limit, so a page is one statement however many owners it shows
+    String PAGE_COLUMNS = "select p.id, p.title, p.created_at as \"createdAt\", u.id as \"ownerId\", " +
+            "u.first_name as \"ownerFirstName\", u.last_name as \"ownerLastName\" from (";
+
+    String PAGE_OWNER = ") p inner join users u on u.id = p.owner_id order by p.created_at, p.id";
+
+    @Query(value = PAGE_COLUMNS +
+            "(select id, title, created_at, owner_id from todos where owner_id = ?1 " +
+            "order by created_at, id limit ?2) union " +
+            "(select id, title, created_at, owner_id from todos inner join todo_collaborator on id = todo_id and " +
+            "collaborator_id = ?1 order by created_at, id limit ?2) " +
+            "order by created_at, id limit ?2" + PAGE_OWNER, nativeQuery = true)
+    List<ToDoSummary> getFirstPageByUserId(long userId, int limit);
+
+    @Query(value = PAGE_COLUMNS +
+            "(select id, title, created_at, owner_id from todos where owner_id = ?1 " +
+            "and (created_at, id) > (?2, ?3) order by created_at, id limit ?4) union " +
+            "(select id, title, created_at, owner_id from todos inner join todo_collaborator on id = todo_id and " +
+            "collaborator_id = ?1 where (created_at, id) > (?2, ?3) order by created_at, id limit ?4) " +
+            "order by created_at, id limit ?4" + PAGE_OWNER, nativeQuery = true)
+    List<ToDoSummary> getPageByUserIdAfter(long userId, LocalDateTime createdAt, long id, int limit);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(value = "select id, title, created_at, owner_id from todos where owner_id = ?1 union " +
+            "select id, title, created_at, owner_id from todos inner join todo_collaborator on id = todo_id and " +
+            "collaborator_id = ?1 order by created_at, id", nativeQuery = true)
+    Stream<ToDo> streamByUserId(long userId);
+
+    @Modifying
+    @Query(value = "insert into todo_collaborator (todo_id, collaborator_id) values (?1, ?2) " +
+            "on conflict do nothing", nativeQuery = true)
+    int addCollaborator(long todoId, long userId);
+
+    @Modifying
+    @Query(value = "delete from todo_collaborator where todo_id = ?1 and collaborator_id = ?2", nativeQuery = true)
+    int removeCollaborator(long todoId, long userId);
+
+    @Modifying
+    @Query(value = "delete from todo_collaborator where todo_id = ?1", nativeQuery = true)
+    int removeAllCollaborators(long todoId);
+
+    @Modifying
+    @Query(value = "delete from todo_collaborator where collaborator_id = ?1 " +
+            "or todo_id in (select id from todos where owner_id = ?1)", nativeQuery = true)
+    int removeAllCollaborationsByUserId(long userId);
+
+    @Modifying
+    @Query(value = "delete from todos where id = ?1", nativeQuery = true)
+    int deleteRowById(long id);
+
+    @Modifying
+    @Query(value = "delete from todos where owner_id = ?1", nativeQuery = true)
+    int deleteAllByOwnerId(long ownerId);
 }
@@ -1,13 +1,35 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.UserSummary;
 import com.softserve.itacademy.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
-    @Query(value = "select * from users where email =?1", nativeQuery = true)
+    @Query(value = "select * from users where email =?1 and deleted_at is null", nativeQuery = true)
     User getUserByEmail(String email);
+
+    @Modifying
+    @Query(value = "delete from users where id = ?1", nativeQuery = true)
+    int deleteRowById(long id);
+
+    @Modifying
+    @Query(value = "update users set deleted_at = now() where id = ?1 and deleted_at is null", nativeQuery = true)
+    int markDeleted(long id);
+
+    @Query(value = "select id from users where deleted_at is not null order by deleted_at, id limit ?1",
+            nativeQuery = true)
+    List<Number> getDeletedIds(int limit);
+
+    @Query(value = "select id, first_name as \"firstName\", last_name as \"lastName\", email from users " +
+            "where deleted_at is null and id <> ?2 and (lower(email) like ?1 " +
+            "or lower(first_name) like ?1 or lower(last_name) like ?1) " +
+            "order by first_name, last_name, id limit ?3", nativeQuery = true)
+    List<UserSummary> searchByPrefix(String prefixPattern, long excludedId, int limit);
 }
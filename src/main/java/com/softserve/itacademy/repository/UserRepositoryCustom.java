@@ -0,0 +1,16 @@
+package com.softserve.itacademy.repository;
+
+import com.softserve.itacademy.dto.UserSummary;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Up to {@code limit} users ordered by {@code order} with id as the tie breaker, starting after the user
+     * {@code afterId} (null for the first page). The sort key of that user is read in the same statement, so
+     * the page is a range read on the (key, id) index however deep it is.
+     */
+    List<UserSummary> getSummaries(Sort.Order order, Long afterId, int limit);
+}
@@ -0,0 +1,88 @@
+package com.softserve.itacademy.repository;
+
+import com.softserve.itacademy.dto.UserSummary;
+import com.softserve.itacademy.model.User;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.TupleElement;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final List<String> UNIQUE = Arrays.asList("id", "email");
+
+    private final EntityManager entityManager;
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+
+    UserRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<UserSummary> getSummaries(Sort.Order order, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<User> user = query.from(User.class);
+        query.multiselect(user.get("id").alias("id"), user.get("firstName").alias("firstName"),
+                user.get("lastName").alias("lastName"), user.get("email").alias("email"));
+
+        Path<Long> id = user.get("id");
+        List<Order> orderBy = new ArrayList<>();
+        if (order.getProperty().equals("id")) {
+            if (afterId != null) {
+                query.where(order.isAscending() ? cb.greaterThan(id, afterId) : cb.lessThan(id, afterId));
+            }
+        } else {
+            Path<String> key = user.get(order.getProperty());
+            if (afterId != null) {
+                query.where(after(cb, query, key, id, order, afterId));
+            }
+            orderBy.add(order.isAscending() ? cb.asc(key) : cb.desc(key));
+        }
+        if (!UNIQUE.contains(order.getProperty()) || orderBy.isEmpty()) {
+            orderBy.add(order.isAscending() ? cb.asc(id) : cb.desc(id));
+        }
+        query.orderBy(orderBy);
+
+        List<UserSummary> summaries = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query).setMaxResults(limit).getResultList()) {
+            Map<String, Object> values = new HashMap<>();
+            for (TupleElement<?> element : tuple.getElements()) {
+                values.put(element.getAlias(), tuple.get(element));
+            }
+            summaries.add(projectionFactory.createProjection(UserSummary.class, values));
+        }
+        return summaries;
+    }
+
+    // key > last or (key = last and id > afterId), with the redundant key >= last bounding the index range;
+    // a unique key needs no tie breaker
+    private static Predicate after(CriteriaBuilder cb, CriteriaQuery<?> query, Path<String> key, Path<Long> id,
+                                   Sort.Order order, long afterId) {
+        Subquery<String> last = query.subquery(String.class);
+        Root<User> lastUser = last.from(User.class);
+        last.select(lastUser.get(order.getProperty())).where(cb.equal(lastUser.get("id"), afterId));
+        boolean unique = UNIQUE.contains(order.getProperty());
+        if (order.isAscending()) {
+            return unique ? cb.greaterThan(key, last) : cb.and(cb.greaterThanOrEqualTo(key, last),
+                    cb.or(cb.greaterThan(key, last), cb.greaterThan(id, afterId)));
+        }
+        return unique ? cb.lessThan(key, last) : cb.and(cb.lessThanOrEqualTo(key, last),
+                cb.or(cb.lessThan(key, last), cb.lessThan(id, afterId)));
+    }
+}
@@ -1,15 +1,33 @@
 package com.softserve.itacademy.service;
 
+import com.softserve.itacademy.dto.TaskFilter;
+import com.softserve.itacademy.dto.TaskSearchResult;
+import com.softserve.itacademy.dto.TaskStatsDto;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.State;
 import com.softserve.itacademy.model.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface TaskService {
     Task create(Task task);
+    List<Task> createAll(List<Task> tasks);
     Task readById(long id);
+    Optional<Task> findById(long id);
     Task update(Task task);
+    void updateState(long id, long todoId, State state, long version);
+    void updatePriority(long id, long todoId, Priority priority, long version);
     void delete(long id);
 
     List<Task> getAll();
     List<Task> getByTodoId(long todoId);
+    List<Task> getByTodoId(long todoId, TaskFilter filter);
+    Slice<TaskSearchResult> search(long userId, String query, Pageable pageable);
+    Map<Long, TaskStatsDto> getStatsByTodoIds(Collection<Long> todoIds);
+    List<TaskStatsDto> getStatsByUserId(long userId);
 }
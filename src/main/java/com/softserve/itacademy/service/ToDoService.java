@@ -1,15 +1,28 @@
 package com.softserve.itacademy.service;
 
+import com.softserve.itacademy.dto.ToDoSummary;
 import com.softserve.itacademy.model.ToDo;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ToDoService {
     ToDo create(ToDo todo);
     ToDo readById(long id);
+    ToDo readByIdWithCollaborators(long id);
+    Optional<ToDo> findById(long id);
+    Optional<ToDo> findByIdWithCollaborators(long id);
     ToDo update(ToDo todo);
     void delete(long id);
 
+    void addCollaborator(long todoId, long userId);
+    void removeCollaborator(long todoId, long userId);
+
     List<ToDo> getAll();
     List<ToDo> getByUserId(long userId);
+    List<ToDoSummary> getByUserId(long userId, int limit);
+    List<ToDoSummary> getByUserId(long userId, LocalDateTime afterCreatedAt, long afterId, int limit);
+    void forEachByUserId(long userId, Consumer<ToDo> action);
 }
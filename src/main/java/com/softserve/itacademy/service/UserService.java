@@ -1,14 +1,23 @@
 package com.softserve.itacademy.service;
 
+import com.softserve.itacademy.dto.UserSummary;
 import com.softserve.itacademy.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface UserService {
     User create(User user);
     User readById(long id);
+    Optional<User> findById(long id);
     User update(User user);
     void delete(long id);
+    void purge(long id);
+    List<Long> getDeletedIds(int limit);
     List<User> getAll();
+    Slice<UserSummary> getPage(Pageable pageable, Long afterId);
+    List<UserSummary> search(String query, long excludedId, int limit);
 
 }
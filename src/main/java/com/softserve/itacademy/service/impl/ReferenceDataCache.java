@@ -0,0 +1,113 @@
+package com.softserve.itacademy.service.impl;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+// Each snapshot builds one detached copy per row, without collections, and hands out those shared instances,
+// so lookups allocate nothing; callers must treat them as read-only. Writes drop the snapshot only once they
+// commit: a read racing the transaction still sees the old rows and caches them under the old generation
+class ReferenceDataCache<T> {
+
+    interface Copier<T> {
+        T copy(long id, String name);
+    }
+
+    private final Supplier<List<T>> loader;
+    private final ToLongFunction<T> idOf;
+    private final Function<T, String> nameOf;
+    private final Copier<T> copier;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot<T> snapshot;
+
+    ReferenceDataCache(Supplier<List<T>> loader, ToLongFunction<T> idOf, Function<T, String> nameOf,
+                       Copier<T> copier) {
+        this.loader = loader;
+        this.idOf = idOf;
+        this.nameOf = nameOf;
+        this.copier = copier;
+    }
+
+    T getById(long id) {
+        Snapshot<T> current = snapshot();
+        int index = Arrays.binarySearch(current.ids, id);
+        return index >= 0 ? current.byIdOrder.get(index) : null;
+    }
+
+    T getByName(String name) {
+        return snapshot().byName.get(name);
+    }
+
+    List<T> getAll() {
+        return snapshot().all;
+    }
+
+    void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    drop();
+                }
+            });
+        } else {
+            drop();
+        }
+    }
+
+    private void drop() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot<T> snapshot() {
+        Snapshot<T> current = snapshot;
+        if (current != null && current.generation == generation.get()) {
+            return current;
+        }
+        long loadedGeneration = generation.get();
+        List<T> copies = new ArrayList<>();
+        for (T item : loader.get()) {
+            copies.add(copier.copy(idOf.applyAsLong(item), nameOf.apply(item)));
+        }
+        current = new Snapshot<>(loadedGeneration, copies, idOf, nameOf);
+        snapshot = current;
+        return current;
+    }
+
+    private static final class Snapshot<T> {
+        private final long generation;
+        private final List<T> all;
+        private final long[] ids;
+        private final List<T> byIdOrder;
+        private final Map<String, T> byName;
+
+        private Snapshot(long generation, List<T> copies, ToLongFunction<T> idOf, Function<T, String> nameOf) {
+            this.generation = generation;
+            this.all = Collections.unmodifiableList(copies);
+
+            List<T> sorted = new ArrayList<>(copies);
+            sorted.sort(Comparator.comparingLong(idOf));
+            this.byIdOrder = sorted;
+            this.ids = new long[sorted.size()];
+            Map<String, T> names = new HashMap<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                ids[i] = idOf.applyAsLong(sorted.get(i));
+                names.put(nameOf.apply(sorted.get(i)), sorted.get(i));
+            }
+            this.byName = names;
+        }
+    }
+}
@@ -1,13 +1,13 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.exception.NotFoundException;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.Role;
 import com.softserve.itacademy.repository.RoleRepository;
 import com.softserve.itacademy.service.RoleService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,15 +15,20 @@ import java.util.Optional;
 public class RoleServiceImpl implements RoleService {
 
     private RoleRepository roleRepository;
+    private final ReferenceDataCache<Role> roles;
 
     public RoleServiceImpl(RoleRepository roleRepository) {
         this.roleRepository = roleRepository;
+        this.roles = new ReferenceDataCache<>(roleRepository::findAll, Role::getId, Role::getName, RoleServiceImpl::copyOf);
     }
 
     @Override
+    @Transactional
     public Role create(Role role) {
         try {
-            return roleRepository.save(role);
+            Role newRole = roleRepository.save(role);
+            roles.invalidate();
+            return newRole;
         } catch (IllegalArgumentException e) {
             throw new NullEntityReferenceException("Role cannot be 'null'");
         }
@@ -31,26 +36,38 @@ public class RoleServiceImpl implements RoleService {
 
     @Override
     public Role readById(long id) {
+        Role cached = roles.getById(id);
+        if (cached != null) {
+            return cached;
+        }
         Optional<Role> optional = roleRepository.findById(id);
+        if (optional.isPresent()) {
             return optional.get();
+        }
+        throw new NotFoundException("Role", id);
     }
 
     @Override
+    @Transactional
     public Role update(Role role) {
         if (role != null) {
             Role oldRole = readById(role.getId());
             if (oldRole != null) {
-                return roleRepository.save(role);
+                Role updatedRole = roleRepository.save(role);
+                roles.invalidate();
+                return updatedRole;
             }
         }
         throw new NullEntityReferenceException("Role cannot be 'null'");
     }
 
     @Override
+    @Transactional
     public void delete(long id) {
         Role role = readById(id);
         if (role != null) {
             roleRepository.delete(role);
+            roles.invalidate();
         } else {
             throw new NullEntityReferenceException("Role cannot be 'null'");
         }
@@ -58,7 +75,13 @@ public class RoleServiceImpl implements RoleService {
 
     @Override
     public List<Role> getAll() {
-        List<Role> roles = roleRepository.findAll();
-        return roles.isEmpty() ? new ArrayList<>() : roles;
+        return roles.getAll();
+    }
+
+    private static Role copyOf(long id, String name) {
+        Role role = new Role();
+        role.setId(id);
+        role.setName(name);
+        return role;
     }
 }
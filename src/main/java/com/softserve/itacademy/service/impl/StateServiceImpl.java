@@ -1,28 +1,33 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.exception.NotFoundException;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.State;
 import com.softserve.itacademy.repository.StateRepository;
 import com.softserve.itacademy.service.StateService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class StateServiceImpl implements StateService {
     private StateRepository stateRepository;
+    private final ReferenceDataCache<State> states;
 
     public StateServiceImpl(StateRepository stateRepository) {
         this.stateRepository = stateRepository;
+        this.states = new ReferenceDataCache<>(stateRepository::getAll, State::getId, State::getName, StateServiceImpl::copyOf);
     }
 
     @Override
+    @Transactional
     public State create(State state) {
         try {
-            return stateRepository.save(state);
+            State newState = stateRepository.save(state);
+            states.invalidate();
+            return newState;
         } catch (IllegalArgumentException e) {
             throw new NullEntityReferenceException("State cannot be 'null'");
         }
@@ -30,46 +35,65 @@ public class StateServiceImpl implements StateService {
 
     @Override
     public State readById(long id) {
+        State cached = states.getById(id);
+        if (cached != null) {
+            return cached;
+        }
         Optional<State> optional = stateRepository.findById(id);
         if (optional.isPresent()) {
             return optional.get();
         }
-        throw new EntityNotFoundException("State with id " + id + " not found");
+        throw new NotFoundException("State", id);
     }
 
     @Override
+    @Transactional
     public State update(State state) {
         if (state != null) {
             State oldState = readById(state.getId());
             if (oldState != null) {
-                return stateRepository.save(state);
+                State updatedState = stateRepository.save(state);
+                states.invalidate();
+                return updatedState;
             }
         }
         throw new NullEntityReferenceException("State cannot be 'null'");
     }
 
     @Override
+    @Transactional
     public void delete(long id) {
         State state = readById(id);
         if (state != null) {
             stateRepository.delete(state);
+            states.invalidate();
         } else {
-            throw new EntityNotFoundException("State with id " + id + " not found");
+            throw new NotFoundException("State", id);
         }
     }
 
     @Override
     public State getByName(String name) {
+        State cached = states.getByName(name);
+        if (cached != null) {
+            return cached;
+        }
         Optional<State> optional = Optional.ofNullable(stateRepository.getByName(name));
         if (optional.isPresent()) {
             return optional.get();
         }
-        throw new EntityNotFoundException("State with name '" + name + "' not found");
+        throw new NotFoundException("State", "State with name '" + name + "' not found");
     }
 
     @Override
     public List<State> getAll() {
-        List<State> states = stateRepository.getAll();
-        return states.isEmpty() ? new ArrayList<>() : states;
+        return states.getAll();
+    }
+
+    private static State copyOf(long id, String name) {
+        State state = new State();
+        state.setId(id);
+        state.setName(name);
+        return state;
     }
 }
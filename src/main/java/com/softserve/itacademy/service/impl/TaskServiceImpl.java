@@ -1,62 +1,155 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.dto.TaskFilter;
+import com.softserve.itacademy.dto.TaskSearchResult;
+import com.softserve.itacademy.dto.TaskStatsDto;
+import com.softserve.itacademy.exception.NotFoundException;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.State;
 import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.TaskCounter;
+import com.softserve.itacademy.model.TaskCounterId;
+import com.softserve.itacademy.repository.TaskCounterRepository;
 import com.softserve.itacademy.repository.TaskRepository;
+import com.softserve.itacademy.repository.TaskSpecifications;
+import com.softserve.itacademy.service.StateService;
 import com.softserve.itacademy.service.TaskService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
+@Transactional(readOnly = true)
 public class TaskServiceImpl implements TaskService {
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int SEARCH_SCAN_LIMIT = 5000;
+    private static final int SEARCH_LOOKUP_LIMIT = 1000;
+
     private TaskRepository taskRepository;
+    private TaskCounterRepository counterRepository;
+    private StateService stateService;
 
 
 
-    public TaskServiceImpl(TaskRepository taskRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository, TaskCounterRepository counterRepository,
+                           StateService stateService) {
         this.taskRepository = taskRepository;
+        this.counterRepository = counterRepository;
+        this.stateService = stateService;
     };
 
     @Override
+    @Transactional
     public Task create(Task user) {
         try {
-            return taskRepository.save(user);
+            Task task = taskRepository.save(user);
+            addToCounter(counterId(task), 1);
+            return task;
         } catch (IllegalArgumentException e) {
             throw new NullEntityReferenceException("Task cannot be 'null'");
         }
     }
 
     @Override
-    public Task readById(long id) {
-        Optional<Task> optional = taskRepository.findById(id);
-        if (optional.isPresent()) {
-            return optional.get();
+    @Transactional
+    public List<Task> createAll(List<Task> tasks) {
+        try {
+            List<Task> saved = taskRepository.saveAll(tasks);
+            Map<TaskCounterId, Long> deltas = new HashMap<>();
+            for (Task task : saved) {
+                TaskCounterId id = counterId(task);
+                if (id != null) {
+                    deltas.merge(id, 1L, Long::sum);
+                }
+            }
+            deltas.forEach(this::addToCounter);
+            return saved;
+        } catch (IllegalArgumentException e) {
+            throw new NullEntityReferenceException("Task cannot be 'null'");
         }
-        throw new EntityNotFoundException("Task with id " + id + " not found");
     }
 
     @Override
+    public Task readById(long id) {
+        return findById(id).orElseThrow(() -> new NotFoundException("Task", id));
+    }
+
+    @Override
+    public Optional<Task> findById(long id) {
+        return taskRepository.findById(id);
+    }
+
+    @Override
+    @Transactional
     public Task update(Task task) {
         if (task != null) {
             Task oldTask = readById(task.getId());
             if (oldTask != null) {
-                return taskRepository.save(task);
+                TaskCounterId oldId = counterId(oldTask);
+                Task updated = taskRepository.save(task);
+                TaskCounterId newId = counterId(updated);
+                if (oldId != null && !oldId.equals(newId)) {
+                    addToCounter(oldId, -1);
+                    addToCounter(newId, 1);
+                }
+                return updated;
             }
         }
         throw new NullEntityReferenceException("Task cannot be 'null'");
     }
 
     @Override
+    @Transactional
+    public void updateState(long id, long todoId, State state, long version) {
+        if (state == null) {
+            throw new NullEntityReferenceException("State cannot be 'null'");
+        }
+        if (taskRepository.updateState(id, todoId, state.getId(), version) == 0) {
+            throw notUpdated(id, todoId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void updatePriority(long id, long todoId, Priority priority, long version) {
+        if (priority == null) {
+            throw new NullEntityReferenceException("Priority cannot be 'null'");
+        }
+        if (taskRepository.updatePriority(id, todoId, priority.getCode(), version) == 0) {
+            throw notUpdated(id, todoId);
+        }
+    }
+
+    private RuntimeException notUpdated(long id, long todoId) {
+        if (taskRepository.existsByIdAndTodoId(id, todoId)) {
+            return new ObjectOptimisticLockingFailureException(Task.class, id);
+        }
+        return new NotFoundException("Task", id);
+    }
+
+    @Override
+    @Transactional
     public void delete(long id) {
         Task task = readById(id);
         if (task != null) {
+            TaskCounterId counterId = counterId(task);
             taskRepository.delete(task);
+            addToCounter(counterId, -1);
         } else {
-            throw new EntityNotFoundException("Task with id " + id + " not found");
+            throw new NotFoundException("Task", id);
         }
     }
 
@@ -71,4 +164,67 @@ public class TaskServiceImpl implements TaskService {
         List<Task> tasks = taskRepository.getByTodoId(todoId);
         return tasks.isEmpty() ? new ArrayList<>() : tasks;
     }
+
+    @Override
+    public List<Task> getByTodoId(long todoId, TaskFilter filter) {
+        return taskRepository.findAll(TaskSpecifications.filtered(todoId, filter));
+    }
+
+    @Override
+    public Slice<TaskSearchResult> search(long userId, String query, Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_SEARCH_PAGE_SIZE));
+        if (query == null || query.trim().isEmpty()) {
+            return new SliceImpl<>(new ArrayList<>(), page, false);
+        }
+        List<TaskSearchResult> results =
+                taskRepository.search(userId, query.trim(), page.getPageSize() + 1, page.getOffset(),
+                        SEARCH_SCAN_LIMIT, SEARCH_LOOKUP_LIMIT);
+        boolean hasNext = results.size() > page.getPageSize();
+        return new SliceImpl<>(hasNext ? results.subList(0, page.getPageSize()) : results, page, hasNext);
+    }
+
+    @Override
+    public Map<Long, TaskStatsDto> getStatsByTodoIds(Collection<Long> todoIds) {
+        Map<Long, TaskStatsDto> stats = new LinkedHashMap<>();
+        todoIds.forEach(todoId -> stats.put(todoId, new TaskStatsDto(todoId)));
+        if (!todoIds.isEmpty()) {
+            collect(counterRepository.getByTodoIds(todoIds), stats);
+        }
+        return stats;
+    }
+
+    @Override
+    public List<TaskStatsDto> getStatsByUserId(long userId) {
+        Map<Long, TaskStatsDto> stats = new LinkedHashMap<>();
+        collect(counterRepository.getByUserId(userId), stats);
+        return new ArrayList<>(stats.values());
+    }
+
+    private void collect(List<TaskCounter> counters, Map<Long, TaskStatsDto> stats) {
+        Map<Long, String> stateNames = new HashMap<>();
+        stateService.getAll().forEach(state -> stateNames.put(state.getId(), state.getName()));
+        for (TaskCounter counter : counters) {
+            TaskCounterId id = counter.getId();
+            stats.computeIfAbsent(id.getTodoId(), TaskStatsDto::new).add(
+                    stateNames.get(id.getStateId()),
+                    id.getPriority() == Priority.NONE ? null : Priority.fromCode(id.getPriority()).name(),
+                    counter.getTaskCount());
+        }
+    }
+
+    private static TaskCounterId counterId(Task task) {
+        if (task == null || task.getTodo() == null) {
+            return null;
+        }
+        return new TaskCounterId(
+                task.getTodo().getId(),
+                task.getState() == null ? 0 : task.getState().getId(),
+                task.getPriority() == null ? Priority.NONE : task.getPriority().getCode());
+    }
+
+    private void addToCounter(TaskCounterId id, long delta) {
+        if (id != null) {
+            counterRepository.add(id.getTodoId(), id.getStateId(), id.getPriority(), delta);
+        }
+    }
 }
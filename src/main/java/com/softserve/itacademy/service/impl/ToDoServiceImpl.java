@@ -1,26 +1,44 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.dto.ToDoSummary;
+import com.softserve.itacademy.exception.NotFoundException;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.repository.TaskCounterRepository;
+import com.softserve.itacademy.repository.TaskRepository;
 import com.softserve.itacademy.repository.ToDoRepository;
 import com.softserve.itacademy.service.ToDoService;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Transactional(readOnly = true)
 public class ToDoServiceImpl implements ToDoService {
 
     private ToDoRepository todoRepository;
+    private TaskRepository taskRepository;
+    private TaskCounterRepository counterRepository;
+    private EntityManager entityManager;
 
-    public ToDoServiceImpl(ToDoRepository todoRepository) {
+    public ToDoServiceImpl(ToDoRepository todoRepository, TaskRepository taskRepository,
+                           TaskCounterRepository counterRepository, EntityManager entityManager) {
         this.todoRepository = todoRepository;
+        this.taskRepository = taskRepository;
+        this.counterRepository = counterRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public ToDo create(ToDo todo) {
         try {
             return todoRepository.save(todo);
@@ -31,14 +49,26 @@ public class ToDoServiceImpl implements ToDoService {
 
     @Override
     public ToDo readById(long id) {
-        Optional<ToDo> optional = todoRepository.findById(id);
-        if (optional.isPresent()) {
-            return optional.get();
-        }
-        throw new EntityNotFoundException("To-Do with id " + id + " not found");
+        return findById(id).orElseThrow(() -> new NotFoundException("To-Do", id));
+    }
+
+    @Override
+    public ToDo readByIdWithCollaborators(long id) {
+        return findByIdWithCollaborators(id).orElseThrow(() -> new NotFoundException("To-Do", id));
     }
 
     @Override
+    public Optional<ToDo> findById(long id) {
+        return todoRepository.findById(id);
+    }
+
+    @Override
+    public Optional<ToDo> findByIdWithCollaborators(long id) {
+        return todoRepository.findWithCollaboratorsById(id);
+    }
+
+    @Override
+    @Transactional
     public ToDo update(ToDo todo) {
         if (todo != null) {
             ToDo oldTodo = readById(todo.getId());
@@ -50,15 +80,32 @@ public class ToDoServiceImpl implements ToDoService {
     }
 
     @Override
+    @Transactional
     public void delete(long id) {
-        ToDo todo = readById(id);
-        if (todo != null) {
-            todoRepository.delete(todo);
-        } else {
-            throw new EntityNotFoundException("To-Do with id " + id + " not found");
+        counterRepository.deleteAllByTodoId(id);
+        taskRepository.deleteAllByTodoId(id);
+        todoRepository.removeAllCollaborators(id);
+        if (todoRepository.deleteRowById(id) == 0) {
+            throw new NotFoundException("To-Do", id);
         }
     }
 
+    @Override
+    @Transactional
+    public void addCollaborator(long todoId, long userId) {
+        try {
+            todoRepository.addCollaborator(todoId, userId);
+        } catch (DataIntegrityViolationException e) {
+            throw new NotFoundException("To-Do", "To-Do with id " + todoId + " or User with id " + userId + " not found");
+        }
+    }
+
+    @Override
+    @Transactional
+    public void removeCollaborator(long todoId, long userId) {
+        todoRepository.removeCollaborator(todoId, userId);
+    }
+
     @Override
     public List<ToDo> getAll() {
         List<ToDo> todos = todoRepository.findAll();
@@ -70,4 +117,25 @@ public class ToDoServiceImpl implements ToDoService {
         List<ToDo> todos = todoRepository.getByUserId(userId);
         return todos.isEmpty() ? new ArrayList<>() : todos;
     }
+
+    @Override
+    public List<ToDoSummary> getByUserId(long userId, int limit) {
+        return todoRepository.getFirstPageByUserId(userId, limit);
+    }
+
+    @Override
+    public List<ToDoSummary> getByUserId(long userId, LocalDateTime afterCreatedAt, long afterId, int limit) {
+        return todoRepository.getPageByUserIdAfter(userId, afterCreatedAt, afterId, limit);
+    }
+
+    // Rows are detached as they pass so the persistence context stays small
+    @Override
+    public void forEachByUserId(long userId, Consumer<ToDo> action) {
+        try (Stream<ToDo> todos = todoRepository.streamByUserId(userId)) {
+            todos.forEach(todo -> {
+                action.accept(todo);
+                entityManager.detach(todo);
+            });
+        }
+    }
 }
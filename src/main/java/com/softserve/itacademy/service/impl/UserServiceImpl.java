@@ -1,26 +1,55 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.dto.UserSummary;
+import com.softserve.itacademy.exception.NotFoundException;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.User;
+import com.softserve.itacademy.repository.TaskCounterRepository;
+import com.softserve.itacademy.repository.TaskRepository;
+import com.softserve.itacademy.repository.ToDoRepository;
 import com.softserve.itacademy.repository.UserRepository;
 import com.softserve.itacademy.service.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
+@Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
 
+    private static final int MAX_SEARCH_RESULTS = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final List<String> SORTABLE = Arrays.asList("id", "firstName", "lastName", "email");
+
     private UserRepository userRepository;
+    private ToDoRepository todoRepository;
+    private TaskRepository taskRepository;
+    private TaskCounterRepository counterRepository;
+
+    @Value("${todolist.users.soft-delete:false}")
+    private boolean softDelete;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, ToDoRepository todoRepository,
+                           TaskRepository taskRepository, TaskCounterRepository counterRepository) {
         this.userRepository = userRepository;
+        this.todoRepository = todoRepository;
+        this.taskRepository = taskRepository;
+        this.counterRepository = counterRepository;
     }
 
     @Override
+    @Transactional
     public User create(User user) {
         try {
             return userRepository.save(user);
@@ -31,14 +60,16 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User readById(long id) {
-        Optional<User> optional = userRepository.findById(id);
-        if (optional.isPresent()) {
-            return optional.get();
-        }
-        throw new EntityNotFoundException("User with id " + id + " not found");
+        return findById(id).orElseThrow(() -> new NotFoundException("User", id));
+    }
+
+    @Override
+    public Optional<User> findById(long id) {
+        return userRepository.findById(id).filter(user -> user.getDeletedAt() == null);
     }
 
     @Override
+    @Transactional
     public User update(User user) {
         if (user != null) {
             User oldUser = readById(user.getId());
@@ -50,19 +81,66 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
+    @Transactional
     public void delete(long id) {
-        User user = readById(id);
-        if (user != null) {
-            userRepository.delete(user);
-        } else {
-            throw new EntityNotFoundException("User with id " + id + " not found");
+        if (softDelete) {
+            if (userRepository.markDeleted(id) == 0) {
+                throw new NotFoundException("User", id);
+            }
+            return;
+        }
+        purge(id);
+    }
+
+    @Override
+    @Transactional
+    public void purge(long id) {
+        counterRepository.deleteAllByOwnerId(id);
+        taskRepository.deleteAllByOwnerId(id);
+        todoRepository.removeAllCollaborationsByUserId(id);
+        todoRepository.deleteAllByOwnerId(id);
+        if (userRepository.deleteRowById(id) == 0) {
+            throw new NotFoundException("User", id);
         }
     }
 
+    @Override
+    public List<Long> getDeletedIds(int limit) {
+        return userRepository.getDeletedIds(limit).stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<User> getAll() {
         List<User> users = userRepository.findAll();
         return users.isEmpty() ? new ArrayList<>() : users;
     }
 
+    @Override
+    public Slice<UserSummary> getPage(Pageable pageable, Long afterId) {
+        Sort.Order order = Sort.Order.asc("id");
+        for (Sort.Order requested : pageable.getSort()) {
+            if (SORTABLE.contains(requested.getProperty())) {
+                order = new Sort.Order(requested.getDirection(), requested.getProperty());
+                break;
+            }
+        }
+        int size = Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE);
+        List<UserSummary> users = userRepository.getSummaries(order, afterId, size + 1);
+        boolean hasNext = users.size() > size;
+        return new SliceImpl<>(hasNext ? users.subList(0, size) : users, PageRequest.of(0, size, Sort.by(order)),
+                hasNext);
+    }
+
+    @Override
+    public List<UserSummary> search(String query, long excludedId, int limit) {
+        String prefix = query == null ? "" : query.trim().toLowerCase();
+        if (prefix.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return userRepository.searchByPrefix(pattern, excludedId, Math.min(limit, MAX_SEARCH_RESULTS));
+    }
+
 }
@@ -18,13 +18,22 @@ INSERT INTO todos (id, title, created_at, owner_id) VALUES (11, 'Nick''s To-Do #
 INSERT INTO todos (id, title, created_at, owner_id) VALUES (12, 'Nora''s To-Do #1', '2020-09-16 14:15:32.464391', 6);
 INSERT INTO todos (id, title, created_at, owner_id) VALUES (13, 'Nora''s To-Do #2', '2020-09-16 14:15:39.16246', 6);
 
-INSERT INTO tasks (id, name, priority, todo_id, state_id) VALUES (6, 'Task #2', 'LOW', 7, 5);
-INSERT INTO tasks (id, name, priority, todo_id, state_id) VALUES (5, 'Task #1', 'HIGH', 7, 8);
-INSERT INTO tasks (id, name, priority, todo_id, state_id) VALUES (7, 'Task #3', 'MEDIUM', 7, 6);
+INSERT INTO tasks (id, name, priority, todo_id, state_id, version) VALUES (6, 'Task #2', 1, 7, 5, 0);
+INSERT INTO tasks (id, name, priority, todo_id, state_id, version) VALUES (5, 'Task #1', 3, 7, 8, 0);
+INSERT INTO tasks (id, name, priority, todo_id, state_id, version) VALUES (7, 'Task #3', 2, 7, 6, 0);
 
 INSERT INTO todo_collaborator (todo_id, collaborator_id) VALUES (7, 5);
 INSERT INTO todo_collaborator (todo_id, collaborator_id) VALUES (7, 6);
 INSERT INTO todo_collaborator (todo_id, collaborator_id) VALUES (10, 6);
 INSERT INTO todo_collaborator (todo_id, collaborator_id) VALUES (10, 4);
 INSERT INTO todo_collaborator (todo_id, collaborator_id) VALUES (12, 5);
-INSERT INTO todo_collaborator (todo_id, collaborator_id) VALUES (12, 4);
\ No newline at end of file
+INSERT INTO todo_collaborator (todo_id, collaborator_id) VALUES (12, 4);
+
+INSERT INTO todo_task_counters (todo_id, state_id, priority, task_count)
+SELECT todo_id, coalesce(state_id, 0), coalesce(priority, 0), count(*) FROM tasks GROUP BY 1, 2, 3;
+
+SELECT setval('roles_seq', (SELECT max(id) FROM roles));
+SELECT setval('users_seq', (SELECT max(id) FROM users));
+SELECT setval('states_seq', (SELECT max(id) FROM states));
+SELECT setval('todos_seq', (SELECT max(id) FROM todos));
+SELECT setval('tasks_seq', (SELECT max(id) FROM tasks));
@@ -0,0 +1,6 @@
+CREATE INDEX IF NOT EXISTS users_lower_email_prefix_idx ON users (lower(email) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS users_lower_first_name_prefix_idx ON users (lower(first_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS users_lower_last_name_prefix_idx ON users (lower(last_name) text_pattern_ops);
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS name_tsv tsvector GENERATED ALWAYS AS (to_tsvector('english', name)) STORED;
+CREATE INDEX IF NOT EXISTS tasks_name_tsv_idx ON tasks USING gin (name_tsv);
+CREATE INDEX IF NOT EXISTS tasks_todo_id_search_idx ON tasks (todo_id) INCLUDE (id, name_tsv);
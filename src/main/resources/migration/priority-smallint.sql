@@ -0,0 +1,10 @@
+-- One-off migration for databases created before priority was stored as its code (LOW = 1, MEDIUM = 2, HIGH = 3).
+-- Rewrites both tables and rebuilds their indexes, so it takes an exclusive lock for the whole run.
+BEGIN;
+ALTER TABLE tasks ALTER COLUMN priority TYPE smallint
+    USING CASE priority WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END;
+ALTER TABLE todo_task_counters ALTER COLUMN priority TYPE smallint
+    USING CASE priority WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 ELSE 0 END;
+COMMIT;
+ANALYZE tasks;
+ANALYZE todo_task_counters;
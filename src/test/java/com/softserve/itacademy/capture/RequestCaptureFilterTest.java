@@ -0,0 +1,90 @@
+package com.softserve.itacademy.capture;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class RequestCaptureFilterTest {
+
+    @Test
+    void shouldCaptureTemplatedRequestsAndReadThemBack(@TempDir Path directory) throws Exception {
+        CaptureProperties properties = new CaptureProperties();
+        properties.setDirectory(directory.toString());
+        RequestCaptureFilter filter = new RequestCaptureFilter(properties);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/tasks/5/update/todos/7");
+            request.addParameter("name", "Task #" + i);
+            request.addParameter("password", "secret");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, (req, res) -> {
+                Map<String, String> variables = new LinkedHashMap<>();
+                variables.put("task_id", "5");
+                variables.put("todo_id", "7");
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/tasks/{task_id}/update/todos/{todo_id}");
+                req.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, variables);
+                ((MockHttpServletResponse) res).setStatus(302);
+            });
+        }
+        filter.doFilter(new MockHttpServletRequest("GET", "/css/site.css"), new MockHttpServletResponse(),
+                (req, res) -> req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/**"));
+        filter.destroy();
+
+        File[] files = directory.toFile().listFiles();
+        Assertions.assertEquals(1, files.length);
+        List<CapturedRequest> requests;
+        try (CaptureReader reader = new CaptureReader(new FileInputStream(files[0]))) {
+            requests = reader.readAll();
+        }
+
+        Assertions.assertEquals(3, requests.size());
+        CapturedRequest update = requests.get(1);
+        Assertions.assertEquals("POST", update.getMethod());
+        Assertions.assertEquals("/tasks/{task_id}/update/todos/{todo_id}", update.getTemplate());
+        Assertions.assertEquals("/tasks/5/update/todos/7", update.getPath());
+        Assertions.assertEquals(302, update.getStatus());
+        Assertions.assertArrayEquals(new String[]{RequestCaptureFilter.MASK}, update.getParameters().get("password"));
+        Assertions.assertEquals("name=Task+%231&password=****", update.getEncodedParameters());
+        Assertions.assertTrue(update.getOffsetMicros() >= requests.get(0).getOffsetMicros());
+        Assertions.assertEquals("/css/site.css", requests.get(2).getPath());
+        Assertions.assertEquals(200, requests.get(2).getStatus());
+        Assertions.assertEquals(0, filter.getRecorder().getDropped());
+    }
+
+    @Test
+    void shouldStopAtTruncatedRecordAndInlineStringsPastDictionaryLimit() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CaptureWriter writer = new CaptureWriter(out, 0)) {
+            for (int i = 0; i <= CaptureWriter.MAX_DICTIONARY; i++) {
+                Map<String, String[]> parameters = new HashMap<>();
+                parameters.put("p" + i, new String[]{"v"});
+                writer.write(new CapturedRequest(i, 1, "GET", "/", Collections.emptyMap(), parameters, 200));
+            }
+        }
+        byte[] bytes = out.toByteArray();
+
+        List<CapturedRequest> all = new CaptureReader(new ByteArrayInputStream(bytes)).readAll();
+        List<CapturedRequest> truncated =
+                new CaptureReader(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1))).readAll();
+
+        Assertions.assertEquals(CaptureWriter.MAX_DICTIONARY + 1, all.size());
+        Assertions.assertTrue(all.get(CaptureWriter.MAX_DICTIONARY).getParameters()
+                .containsKey("p" + CaptureWriter.MAX_DICTIONARY));
+        Assertions.assertEquals(CaptureWriter.MAX_DICTIONARY, truncated.size());
+    }
+}
@@ -0,0 +1,61 @@
+package com.softserve.itacademy.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.Cookie;
+
+class ReadYourWritesInterceptorTest {
+
+    ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(5000);
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void shouldSetCookieAfterWrite() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/tasks/create/todos/7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        ReadYourWrites.markWritten();
+        interceptor.postHandle(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        Cookie cookie = response.getCookie(ReadYourWritesInterceptor.COOKIE);
+        Assertions.assertNotNull(cookie);
+        Assertions.assertTrue(Long.parseLong(cookie.getValue()) > System.currentTimeMillis());
+        Assertions.assertEquals(5, cookie.getMaxAge());
+        Assertions.assertFalse(ReadYourWrites.hasWritten());
+    }
+
+    @Test
+    void shouldPinReadsWhileCookieIsFresh() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/7/tasks");
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE,
+                String.valueOf(System.currentTimeMillis() + 5000)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        Assertions.assertTrue(ReadYourWrites.isPinnedToPrimary());
+        interceptor.postHandle(request, response, null, null);
+
+        Assertions.assertNull(response.getCookie(ReadYourWritesInterceptor.COOKIE));
+    }
+
+    @Test
+    void shouldIgnoreExpiredOrMalformedCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos/7/tasks");
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.COOKIE, "1"),
+                new Cookie(ReadYourWritesInterceptor.COOKIE, "soon"));
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        Assertions.assertFalse(ReadYourWrites.isPinnedToPrimary());
+    }
+}
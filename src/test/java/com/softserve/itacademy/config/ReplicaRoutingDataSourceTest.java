@@ -0,0 +1,69 @@
+package com.softserve.itacademy.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+
+class ReplicaRoutingDataSourceTest {
+
+    ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        DataSource replica = new SimpleDriverDataSource();
+        dataSource = new ReplicaRoutingDataSource(new SimpleDriverDataSource(), Arrays.asList(replica, replica));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void shouldRoundRobinReadOnlyTransactionsAcrossReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Assertions.assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+        Assertions.assertEquals("replica-1", dataSource.determineCurrentLookupKey());
+        Assertions.assertEquals("replica-0", dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void shouldRouteWritesToPrimaryAndReadTheWritesBack() {
+        Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+        Assertions.assertTrue(ReadYourWrites.hasWritten());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void shouldRoutePinnedReadsToPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWrites.pinToPrimary();
+
+        Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+        Assertions.assertFalse(ReadYourWrites.hasWritten());
+    }
+
+    @Test
+    void shouldRouteToPrimaryWithoutReplicasOrTransaction() {
+        ReplicaRoutingDataSource primaryOnly =
+                new ReplicaRoutingDataSource(new SimpleDriverDataSource(), Collections.emptyList());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, primaryOnly.determineCurrentLookupKey());
+
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+}
@@ -0,0 +1,107 @@
+package com.softserve.itacademy.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+class SlowQueryListenerTest {
+
+    private SlowQueryProperties properties = new SlowQueryProperties();
+    private ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryListener.class);
+
+    @BeforeEach
+    void setUp() {
+        properties.setThreshold(Duration.ofMillis(100));
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void shouldMaskPasswordInInsert() {
+        SlowQueryListener listener = new SlowQueryListener(properties);
+
+        Assertions.assertEquals(new HashSet<>(Collections.singletonList(5)), listener.maskedParameters(
+                "insert into users (deleted_at, email, first_name, last_name, password, role_id, id) " +
+                        "values (?, ?, ?, ?, ?, ?, ?)"));
+    }
+
+    @Test
+    void shouldMaskPasswordInUpdateAndWhere() {
+        SlowQueryListener listener = new SlowQueryListener(properties);
+
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(2, 4)), listener.maskedParameters(
+                "update users set email=?, password=?, role_id=? where u.password = ? and id=?"));
+        Assertions.assertEquals(Collections.emptySet(), listener.maskedParameters(
+                "select u.password as password6_ from users u where u.email=?"));
+        Assertions.assertNull(listener.maskedParameters("update users set (email, password) = (?, ?)"));
+    }
+
+    @Test
+    void shouldLogOnlyStatementsOverThreshold() throws Exception {
+        SlowQueryListener listener = new SlowQueryListener(properties);
+        QueryInfo query = new QueryInfo("update users set email=?, password=? where id=?");
+        query.getParametersList().add(Arrays.asList(
+                set("setString", String.class, 1, "nick@mail.com"),
+                set("setString", String.class, 2, "secret"),
+                set("setLong", long.class, 3, 4L)));
+
+        listener.afterQuery(execution(99, 1), Collections.singletonList(query));
+        Assertions.assertTrue(appender.list.isEmpty());
+
+        listener.afterQuery(execution(150, 1), Collections.singletonList(query));
+        Assertions.assertEquals(1, appender.list.size());
+        String message = appender.list.get(0).getFormattedMessage();
+        Assertions.assertTrue(message.contains("150 ms"), message);
+        Assertions.assertTrue(message.contains("rows=1"), message);
+        Assertions.assertTrue(message.contains("1=nick@mail.com"), message);
+        Assertions.assertTrue(message.contains("2=" + SlowQueryListener.MASK), message);
+        Assertions.assertFalse(message.contains("secret"), message);
+    }
+
+    @Test
+    void shouldLogSelectWithoutRowCountWhenResultSetIsNotProxied() throws Exception {
+        SlowQueryListener listener = new SlowQueryListener(properties);
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(150);
+        info.setResult(Mockito.mock(ResultSet.class));
+
+        listener.afterQuery(info, Collections.singletonList(new QueryInfo("select id from users")));
+
+        Assertions.assertEquals(1, appender.list.size());
+        Assertions.assertTrue(appender.list.get(0).getFormattedMessage().contains("rows=?"));
+    }
+
+    private static ExecutionInfo execution(long elapsedMs, int updateCount) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(elapsedMs);
+        info.setResult(updateCount);
+        return info;
+    }
+
+    private static ParameterSetOperation set(String method, Class<?> type, int index, Object value) throws Exception {
+        return new ParameterSetOperation(PreparedStatement.class.getMethod(method, int.class, type),
+                new Object[]{index, value});
+    }
+}
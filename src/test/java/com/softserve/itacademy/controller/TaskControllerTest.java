@@ -1,6 +1,7 @@
 package com.softserve.itacademy.controller;
 
 import com.softserve.itacademy.dto.TaskDto;
+import com.softserve.itacademy.dto.TaskStatsDto;
 import com.softserve.itacademy.dto.TaskTransformer;
 import com.softserve.itacademy.model.Priority;
 import com.softserve.itacademy.model.Task;
@@ -15,7 +16,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -69,8 +73,9 @@ class TaskControllerTest {
                 .andExpect(MockMvcResultMatchers.status().is3xxRedirection())
                 .andExpect(MockMvcResultMatchers.view().name("redirect:/todos/" + todoId + "/tasks"));
 
-        task.setId(1L);
         List<Task> actualList = taskService.getByTodoId(todoId);
+        task.setId(actualList.get(actualList.size() - 1).getId());
+        assertTrue(task.getId() > 7L);
         assertTrue(actualList.contains(task));
     }
 
@@ -94,6 +99,61 @@ class TaskControllerTest {
 
     }
 
+    @Test
+    void shouldImportTasksGet() throws Exception {
+        long todoId = 9L;
+        mockMvc.perform(MockMvcRequestBuilders.get("/tasks/import/todos/" + todoId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.model().attribute("priorities", Priority.values()))
+                .andExpect(MockMvcResultMatchers.model().attribute("todo", todoService.readById(todoId)))
+                .andExpect(MockMvcResultMatchers.view().name("import-tasks"));
+    }
+
+    @Test
+    void shouldImportTasksPost() throws Exception {
+        long todoId = 9L;
+        int before = taskService.getByTodoId(todoId).size();
+        TaskStatsDto statsBefore = taskService.getStatsByTodoIds(Collections.singletonList(todoId)).get(todoId);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/tasks/import/todos/" + todoId)
+                        .param("tasks", "Imported first;high\r\n\n  Imported second  \nImported; third ; Medium")
+                        .param("priority", "LOW")
+        )
+                .andExpect(MockMvcResultMatchers.status().is3xxRedirection())
+                .andExpect(MockMvcResultMatchers.redirectedUrl("/todos/" + todoId + "/tasks"));
+
+        List<Task> after = taskService.getByTodoId(todoId);
+        List<Task> imported = after.subList(before, after.size());
+        assertEquals(Arrays.asList("Imported first", "Imported second", "Imported; third"),
+                imported.stream().map(Task::getName).collect(Collectors.toList()));
+        assertEquals(Arrays.asList(Priority.HIGH, Priority.LOW, Priority.MEDIUM),
+                imported.stream().map(Task::getPriority).collect(Collectors.toList()));
+        assertTrue(imported.stream().allMatch(task -> task.getState().getName().equals("New")));
+
+        TaskStatsDto statsAfter = taskService.getStatsByTodoIds(Collections.singletonList(todoId)).get(todoId);
+        assertEquals(statsBefore.getTotal() + 3, statsAfter.getTotal());
+        assertEquals(statsBefore.getByState().getOrDefault("New", 0L) + 3, (long) statsAfter.getByState().get("New"));
+        assertEquals(statsBefore.getByPriority().getOrDefault("LOW", 0L) + 1,
+                (long) statsAfter.getByPriority().get("LOW"));
+    }
+
+    @Test
+    void shouldImportTasksPostException() throws Exception {
+        long todoId = 9L;
+        int before = taskService.getByTodoId(todoId).size();
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/tasks/import/todos/" + todoId)
+                        .param("tasks", "first;LOW\nsecond;URGENT")
+        )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.model().attribute("error", "Line 2 must be 'name' or 'name;priority'"))
+                .andExpect(MockMvcResultMatchers.view().name("import-tasks"));
+
+        assertEquals(before, taskService.getByTodoId(todoId).size());
+    }
+
     @Test
     void shouldUpdateTaskGet() throws Exception {
         long todoId = 7L;
@@ -154,6 +214,33 @@ class TaskControllerTest {
     }
 
 
+    @Test
+    void shouldUpdateTaskStatePost() throws Exception {
+        long todoId = 7L;
+        long taskId = 5L;
+        long stateId = 7L;
+        Task before = taskService.readById(taskId);
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/tasks/" + taskId + "/state/todos/" + todoId)
+                        .param("stateId", String.valueOf(stateId))
+                        .param("version", String.valueOf(before.getVersion()))
+        )
+                .andExpect(MockMvcResultMatchers.status().is3xxRedirection())
+                .andExpect(MockMvcResultMatchers.view().name("redirect:/todos/" + todoId + "/tasks"));
+
+        Task actual = taskService.readById(taskId);
+        assertEquals(stateId, actual.getState().getId());
+        assertEquals(before.getVersion() + 1, actual.getVersion());
+
+        mockMvc.perform(
+                MockMvcRequestBuilders.post("/tasks/" + taskId + "/priority/todos/" + todoId)
+                        .param("priority", Priority.LOW.name())
+                        .param("version", String.valueOf(before.getVersion()))
+        )
+                .andExpect(MockMvcResultMatchers.status().isConflict());
+    }
+
     @Test
     void shouldDeleteTask() throws Exception {
         long todoId = 5L;
@@ -162,4 +249,26 @@ class TaskControllerTest {
                 .andExpect(MockMvcResultMatchers.status().is3xxRedirection())
                 .andExpect(MockMvcResultMatchers.view().name("redirect:/todos/" + todoId + "/tasks"));
     }
+
+    @Test
+    void shouldSearchTasksOfAccessibleTodos() throws Exception {
+        Task task = new Task();
+        task.setName("Renew the zebra crossing permit");
+        task.setPriority(Priority.HIGH);
+        task.setTodo(todoService.readById(8L));
+        task.setState(stateService.getByName("New"));
+        taskService.create(task);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/tasks/search/users/4").param("q", "zebra permits"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].name").value("Renew the zebra crossing permit"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].todoId").value(8))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].priority").value("HIGH"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].priorityCode").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.last").value(true));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/tasks/search/users/5").param("q", "zebra permits"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content").isEmpty());
+    }
 }
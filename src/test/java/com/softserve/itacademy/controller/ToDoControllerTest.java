@@ -1,9 +1,17 @@
 package com.softserve.itacademy.controller;
 
+import com.softserve.itacademy.exception.NotFoundResponder;
+import com.softserve.itacademy.metrics.MaxStatements;
+import com.softserve.itacademy.metrics.StatementCounter;
+import com.softserve.itacademy.model.Priority;
+import com.softserve.itacademy.model.Task;
 import com.softserve.itacademy.model.ToDo;
 import com.softserve.itacademy.service.TaskService;
 import com.softserve.itacademy.service.ToDoService;
 import com.softserve.itacademy.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -13,6 +21,7 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 @AutoConfigureMockMvc
@@ -30,6 +39,9 @@ class ToDoControllerTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void createGetTest() throws Exception {
         Long ownerId = 6L;
@@ -47,10 +59,61 @@ class ToDoControllerTest {
 
         mockMvc.perform(MockMvcRequestBuilders.get("/todos/" + id + "/tasks"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.model().attributeExists("todo", "tasks", "users"))
+                .andExpect(MockMvcResultMatchers.model().attributeExists("todo", "tasks"))
+                .andExpect(MockMvcResultMatchers.model().attributeDoesNotExist("users"))
                 .andExpect(MockMvcResultMatchers.view().name("todo-tasks"));
     }
 
+    @Test
+    void readGetFilteredTest() throws Exception {
+        long id = 7L;
+
+        List<Task> tasks = (List<Task>) mockMvc.perform(MockMvcRequestBuilders.get("/todos/" + id + "/tasks")
+                        .param("priority", "HIGH").param("sort", "name").param("desc", "true"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.model().attributeExists("filter", "priorities"))
+                .andReturn().getModelAndView().getModel().get("tasks");
+
+        Assertions.assertTrue(tasks.stream().allMatch(task -> task.getPriority() == Priority.HIGH));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/" + id + "/tasks").param("priority", "URGENT"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.model().attribute("filter",
+                        org.hamcrest.Matchers.hasProperty("priority", org.hamcrest.Matchers.nullValue())));
+    }
+
+    @Test
+    void readGetNotFoundTest() throws Exception {
+        double before = meterRegistry.counter(NotFoundResponder.MISSES, "entity", "To-Do").count();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/100500/tasks"))
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.model().attribute("error", "To-Do with id 100500 not found"))
+                .andExpect(MockMvcResultMatchers.view().name(NotFoundResponder.VIEW));
+
+        Assertions.assertEquals(before + 1, meterRegistry.counter(NotFoundResponder.MISSES, "entity", "To-Do").count());
+    }
+
+    @Test
+    void readGetLoadsCollaboratorsUpFrontTest() throws Exception {
+        ToDo todo = (ToDo) mockMvc.perform(MockMvcRequestBuilders.get("/todos/7/tasks"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getModelAndView().getModel().get("todo");
+
+        Assertions.assertTrue(Hibernate.isInitialized(todo.getCollaborators()));
+    }
+
+    @Test
+    @MaxStatements(3)
+    void readGetStatementCountTest(StatementCounter.Scope statements) throws Exception {
+        long id = 7L;
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/" + id + "/tasks"));
+        statements.reset();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/" + id + "/tasks"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
     @Test
     void updateGetTest() throws Exception {
         long todoId = 7L;
@@ -117,6 +180,18 @@ class ToDoControllerTest {
                 .andExpect(MockMvcResultMatchers.view().name("todos-user"));
     }
 
+    @Test
+    @MaxStatements(3)
+    void getAllStatementCountTest(StatementCounter.Scope statements) throws Exception {
+        long userId = 4L;
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/all/users/" + userId));
+        statements.reset();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/all/users/" + userId))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.view().name("todos-user"));
+    }
+
     @Test
     void addCollaborator() throws Exception {
         long id = 12L;
@@ -134,4 +209,37 @@ class ToDoControllerTest {
                 .andExpect(MockMvcResultMatchers.status().is3xxRedirection())
                 .andExpect(MockMvcResultMatchers.view().name("redirect:/todos/" + id + "/tasks"));
     }
+
+    @Test
+    void getAllNextPageTest() throws Exception {
+        long userId = 4L;
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/all/users/" + userId)
+                .param("after_created", "2020-09-16T14:00:11.480271")
+                .param("after_id", "8"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.model().attributeExists("todos", "user"))
+                .andExpect(MockMvcResultMatchers.model().attributeDoesNotExist("next"))
+                .andExpect(MockMvcResultMatchers.view().name("todos-user"));
+    }
+
+    @Test
+    void exportTest() throws Exception {
+        long userId = 5L;
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/all/users/" + userId + "/export"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(MockMvcResultMatchers.content().string(
+                        org.hamcrest.Matchers.startsWith("id,title,created_at,owner_id")));
+    }
+
+    @Test
+    void statsTest() throws Exception {
+        long userId = 6L;
+        int tasks = taskService.getByTodoId(7L).size();
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/all/users/" + userId + "/stats"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith("application/json"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[?(@.todoId == 7)].total")
+                        .value(org.hamcrest.Matchers.contains(tasks)));
+    }
 }
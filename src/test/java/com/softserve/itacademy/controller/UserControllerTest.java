@@ -1,5 +1,7 @@
 package com.softserve.itacademy.controller;
 
+import com.softserve.itacademy.dto.UserSummary;
+import com.softserve.itacademy.metrics.MaxStatements;
 import com.softserve.itacademy.model.User;
 import com.softserve.itacademy.repository.UserRepository;
 import com.softserve.itacademy.service.impl.RoleServiceImpl;
@@ -9,11 +11,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 @AutoConfigureMockMvc
@@ -97,11 +102,71 @@ public class UserControllerTest {
 
     @Test
     public void shouldReturnListUserGetAll() throws Exception {
-        List<User> expected = userRepository.findAll();
+        List<Long> expected = userRepository.findAll(Sort.by("id")).stream()
+                .map(User::getId).limit(50).collect(Collectors.toList());
 
-        mockMvc.perform(MockMvcRequestBuilders.get("/users/all"))
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/users/all"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.model().attributeExists("users"))
-                .andExpect(MockMvcResultMatchers.model().attribute("users", expected));
+                .andExpect(MockMvcResultMatchers.model().attributeExists("users", "page"))
+                .andReturn();
+
+        Assertions.assertEquals(expected, userIds(result));
+    }
+
+    @Test
+    public void shouldSortUsersPageAndIgnoreUnknownProperties() throws Exception {
+        List<Long> expected = userRepository.findAll(Sort.by(Sort.Order.desc("email"))).stream()
+                .map(User::getId).limit(2).collect(Collectors.toList());
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/users/all")
+                .param("sort", "email,desc").param("sort", "password").param("size", "2"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.model().attribute("sort", "email,desc"))
+                .andExpect(MockMvcResultMatchers.model().attribute("next", expected.get(1)))
+                .andReturn();
+
+        Assertions.assertEquals(expected, userIds(result));
+    }
+
+    @Test
+    public void shouldFollowNextPageCursor() throws Exception {
+        List<Long> expected = userRepository.findAll(Sort.by(Sort.Order.asc("firstName"), Sort.Order.asc("id")))
+                .stream().map(User::getId).limit(2).collect(Collectors.toList());
+
+        MvcResult first = mockMvc.perform(MockMvcRequestBuilders.get("/home")
+                .param("sort", "firstName").param("size", "1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn();
+        String html = first.getResponse().getContentAsString();
+        String next = html.substring(html.indexOf("/home?after="), html.indexOf("\">Next page"));
+
+        MvcResult second = mockMvc.perform(MockMvcRequestBuilders.get(next.replace("&amp;", "&")))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.model().attribute("after", expected.get(0)))
+                .andReturn();
+
+        Assertions.assertEquals(expected.subList(0, 1), userIds(first));
+        Assertions.assertEquals(expected.subList(1, 2), userIds(second));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> userIds(MvcResult result) {
+        List<UserSummary> users = (List<UserSummary>) result.getModelAndView().getModel().get("users");
+        return users.stream().map(UserSummary::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    @MaxStatements(2)
+    public void shouldSearchUsersByPrefix() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/users/search").param("q", "NO"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].email")
+                        .value(org.hamcrest.Matchers.hasItem("nora@mail.com")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].password").doesNotExist());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/users/search").param("q", "no").param("exclude", "6"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[*].email")
+                        .value(org.hamcrest.Matchers.not(org.hamcrest.Matchers.hasItem("nora@mail.com"))));
     }
 }
@@ -0,0 +1,61 @@
+package com.softserve.itacademy.logging;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+class RequestMdcFilterTest {
+
+    private RequestMdcFilter filter = new RequestMdcFilter();
+    private RequestMdcInterceptor interceptor = new RequestMdcInterceptor();
+
+    @Test
+    void shouldPutRequestAndPathIdsIntoMdcForTheRequestOnly() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks/5/update/todos/7");
+        request.addHeader(RequestMdcFilter.HEADER, "req-42");
+        Map<String, String> variables = new HashMap<>();
+        variables.put("task_id", "5");
+        variables.put("todo_id", "7");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, variables);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Map<String, String> seen = new HashMap<>();
+
+        filter.doFilter(request, response, (req, res) -> {
+            interceptor.preHandle(request, response, null);
+            seen.putAll(MDC.getCopyOfContextMap());
+        });
+
+        Assertions.assertEquals("req-42", seen.get(RequestMdcFilter.REQUEST_ID));
+        Assertions.assertEquals("7", seen.get(RequestMdcFilter.TODO_ID));
+        Assertions.assertNull(seen.get(RequestMdcFilter.USER_ID));
+        Assertions.assertEquals("req-42", response.getHeader(RequestMdcFilter.HEADER));
+        Assertions.assertNull(MDC.get(RequestMdcFilter.REQUEST_ID));
+        Assertions.assertNull(MDC.get(RequestMdcFilter.TODO_ID));
+    }
+
+    @Test
+    void shouldReplaceInvalidRequestIdAndReadUserFromUsersPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/4/read");
+        request.addHeader(RequestMdcFilter.HEADER, "bad id\nforged");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE,
+                Collections.singletonMap("id", "4"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Map<String, String> seen = new HashMap<>();
+
+        filter.doFilter(request, response, (req, res) -> {
+            interceptor.preHandle(request, response, null);
+            seen.putAll(MDC.getCopyOfContextMap());
+        });
+
+        Assertions.assertNotEquals("bad id\nforged", seen.get(RequestMdcFilter.REQUEST_ID));
+        Assertions.assertEquals("4", seen.get(RequestMdcFilter.USER_ID));
+        Assertions.assertNull(seen.get(RequestMdcFilter.TODO_ID));
+    }
+}
@@ -0,0 +1,79 @@
+package com.softserve.itacademy.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+class SamplingTurboFilterTest {
+
+    private LoggerContext context = new LoggerContext();
+    private Logger logger = context.getLogger("com.softserve.itacademy.controller.HomeController");
+
+    @Test
+    void shouldDenyInfoOverBurstAndCountSuppressed() {
+        SamplingTurboFilter filter = new SamplingTurboFilter(0.001, 2);
+
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(filter, Level.INFO, "Home page"));
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(filter, Level.INFO, "Home page"));
+        Assertions.assertEquals(FilterReply.DENY, decide(filter, Level.INFO, "Home page"));
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(filter, Level.INFO, "Other page"));
+
+        Assertions.assertEquals(Collections.singletonMap(logger.getName() + " : Home page", 1L),
+                filter.getSuppressedCounts());
+    }
+
+    @Test
+    void shouldAlwaysPassWarnAndAlwaysLogLoggers() {
+        SamplingTurboFilter filter = new SamplingTurboFilter(0.001, 1);
+        filter.setAlwaysLog(Collections.singletonList("com.softserve.itacademy.exception.GlobalExceptionHandler"));
+        Logger handler = context.getLogger("com.softserve.itacademy.exception.GlobalExceptionHandler");
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(FilterReply.NEUTRAL, decide(filter, Level.WARN, "Slow"));
+            Assertions.assertEquals(FilterReply.NEUTRAL,
+                    filter.decide(null, handler, Level.INFO, "Handled", null, null));
+        }
+    }
+
+    @Test
+    void shouldApplyPerLoggerRateAndRuntimeChanges() {
+        SamplingTurboFilter filter = new SamplingTurboFilter(0.001, 1);
+        filter.setRate("com.softserve.itacademy.controller", -1.0);
+
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(FilterReply.NEUTRAL, decide(filter, Level.INFO, "Home page"));
+        }
+
+        filter.setRate("com.softserve.itacademy.controller", null);
+        decide(filter, Level.INFO, "Home page");
+        Assertions.assertEquals(FilterReply.DENY, decide(filter, Level.INFO, "Home page"));
+
+        filter.setEnabled(false);
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(filter, Level.INFO, "Home page"));
+    }
+
+    @Test
+    void shouldShareOneBucketForTemplatesOverTheCap() {
+        SamplingTurboFilter filter = new SamplingTurboFilter(0.001, 1);
+        filter.setMaxTemplates(2);
+
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(filter, Level.INFO, "Template 1"));
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(filter, Level.INFO, "Template 2"));
+        Assertions.assertEquals(FilterReply.NEUTRAL, decide(filter, Level.INFO, "Pre-formatted message 1"));
+        Assertions.assertEquals(FilterReply.DENY, decide(filter, Level.INFO, "Pre-formatted message 2"));
+        Assertions.assertEquals(FilterReply.DENY, decide(filter, Level.INFO, "Pre-formatted message 3"));
+
+        Assertions.assertEquals(
+                Collections.singletonMap(logger.getName() + " : " + SamplingTurboFilter.OTHER_TEMPLATES, 2L),
+                filter.getSuppressedCounts());
+    }
+
+    private FilterReply decide(SamplingTurboFilter filter, Level level, String format) {
+        return filter.decide(null, logger, level, format, null, null);
+    }
+}
@@ -0,0 +1,54 @@
+package com.softserve.itacademy.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@AutoConfigureMockMvc
+class MethodMetricsAspectTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void shouldTimeHandlerServiceAndRepositoryCalls() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/7/tasks"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Timer service = registry.find(MethodMetricsAspect.SERVICE_TIMER)
+                .tags("class", "ToDoServiceImpl", "method", "findByIdWithCollaborators", "exception", "none")
+                .timer();
+        Timer repository = registry.find(MethodMetricsAspect.REPOSITORY_TIMER)
+                .tags("class", "TaskRepository", "method", "findAll").timer();
+        Timer handler = registry.find("http.server.requests").tag("uri", "/todos/{id}/tasks").timer();
+
+        Assertions.assertNotNull(service);
+        Assertions.assertTrue(service.count() > 0);
+        Assertions.assertNotNull(repository);
+        Assertions.assertTrue(repository.count() > 0);
+        Assertions.assertNotNull(handler);
+    }
+
+    @Test
+    void shouldTagFailedCallsWithException() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/todos/100500/update/users/6"));
+
+        Timer failed = registry.find(MethodMetricsAspect.SERVICE_TIMER)
+                .tags("class", "ToDoServiceImpl", "method", "readById",
+                        "exception", "NotFoundException")
+                .timer();
+
+        Assertions.assertNotNull(failed);
+    }
+}
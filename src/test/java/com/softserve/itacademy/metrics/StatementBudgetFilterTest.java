@@ -0,0 +1,129 @@
+package com.softserve.itacademy.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.softserve.itacademy.logging.LogSamplingConfig;
+import com.softserve.itacademy.logging.LogSamplingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StatementBudgetFilterTest {
+
+    private StatementBudgetProperties properties;
+    private SimpleMeterRegistry registry;
+    private StatementBudgetFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StatementBudgetProperties();
+        properties.setMode(StatementBudgetProperties.Mode.FAIL);
+        properties.getBudgets().put("/todos/{id}/tasks", 2);
+        registry = new SimpleMeterRegistry();
+        filter = new StatementBudgetFilter(properties, registry);
+        request = new MockHttpServletRequest("GET", "/todos/7/tasks");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/todos/{id}/tasks");
+    }
+
+    @Test
+    void recordsStatementsPerEndpoint() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), issuing("select a", "select b"));
+        filter.doFilter(request, new MockHttpServletResponse(), issuing("select c"));
+
+        assertEquals(3.0, registry.get(StatementBudgetFilter.SUMMARY)
+                .tag("uri", "/todos/{id}/tasks").summary().totalAmount());
+    }
+
+    @Test
+    void logsCompletionWithStatementCount() throws Exception {
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        Logger logger = (Logger) LoggerFactory.getLogger(StatementBudgetFilter.class);
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), issuing("select a", "select b"));
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        assertEquals(1, appender.list.size());
+        assertEquals("2", appender.list.get(0).getMDCPropertyMap().get(StatementBudgetFilter.MDC_KEY));
+        assertNull(MDC.get(StatementBudgetFilter.MDC_KEY));
+    }
+
+    @Test
+    void logsEveryCompletionWhileSamplingIsActive() throws Exception {
+        LogSamplingProperties sampling = new LogSamplingProperties();
+        sampling.setDefaultRate(0.001);
+        sampling.setBurst(1);
+        LogSamplingConfig config = new LogSamplingConfig();
+        config.samplingTurboFilter(sampling);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        Logger logger = (Logger) LoggerFactory.getLogger(StatementBudgetFilter.class);
+        Logger sampled = (Logger) LoggerFactory.getLogger("com.softserve.itacademy.controller.HomeController");
+        appender.start();
+        logger.addAppender(appender);
+        sampled.addAppender(appender);
+        try {
+            for (int i = 0; i < 5; i++) {
+                filter.doFilter(request, new MockHttpServletResponse(), issuing("select a"));
+                sampled.info("Home page");
+            }
+        } finally {
+            logger.detachAppender(appender);
+            sampled.detachAppender(appender);
+            config.destroy();
+        }
+
+        assertEquals(5, appender.list.stream()
+                .filter(event -> event.getLoggerName().equals(StatementBudgetFilter.class.getName())).count());
+        assertEquals(1, appender.list.stream()
+                .filter(event -> event.getMessage().equals("Home page")).count());
+    }
+
+    @Test
+    void failsOverBudget() {
+        assertThrows(StatementBudgetExceededException.class, () ->
+                filter.doFilter(request, new MockHttpServletResponse(), issuing("select a", "select b", "select c")));
+    }
+
+    @Test
+    void warnsOverBudget() {
+        properties.setMode(StatementBudgetProperties.Mode.WARN);
+
+        assertDoesNotThrow(() ->
+                filter.doFilter(request, new MockHttpServletResponse(), issuing("select a", "select b", "select c")));
+    }
+
+    @Test
+    void detectsRepeatedStatement() {
+        properties.getBudgets().clear();
+        properties.setRepeatThreshold(3);
+
+        assertThrows(StatementBudgetExceededException.class, () ->
+                filter.doFilter(request, new MockHttpServletResponse(), issuing("select a", "select a", "select a")));
+    }
+
+    private FilterChain issuing(String... statements) {
+        StatementCounter inspector = new StatementCounter();
+        return (req, res) -> {
+            for (String sql : statements) {
+                inspector.inspect(sql);
+            }
+        };
+    }
+}
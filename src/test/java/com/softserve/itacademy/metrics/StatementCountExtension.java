@@ -0,0 +1,42 @@
+package com.softserve.itacademy.metrics;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Counts statements issued on the test thread (MockMvc runs the request there too);
+// tests may take the Scope as a parameter and reset() it after warming caches
+public class StatementCountExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(StatementCountExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(StatementCounter.Scope.class, StatementCounter.start());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        StatementCounter.Scope scope = context.getStore(NAMESPACE).remove(StatementCounter.Scope.class, StatementCounter.Scope.class);
+        scope.close();
+        MaxStatements max = context.getRequiredTestMethod().getAnnotation(MaxStatements.class);
+        if (max != null && !context.getExecutionException().isPresent()) {
+            assertTrue(scope.getCount() <= max.value(),
+                    "Statements issued: " + scope.getCount() + ", expected at most " + max.value());
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == StatementCounter.Scope.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE).get(StatementCounter.Scope.class, StatementCounter.Scope.class);
+    }
+}
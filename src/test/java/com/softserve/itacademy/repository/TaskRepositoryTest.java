@@ -1,8 +1,12 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.TaskFilter;
+import com.softserve.itacademy.dto.TaskSearchResult;
 import com.softserve.itacademy.model.Priority;
 import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.TaskCounterId;
 import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.model.User;
 import com.softserve.itacademy.repository.StateRepository;
 import com.softserve.itacademy.repository.TaskRepository;
 import com.softserve.itacademy.repository.ToDoRepository;
@@ -16,6 +20,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
@@ -32,6 +37,15 @@ public class TaskRepositoryTest {
     @Autowired
     StateRepository stateRepository;
 
+    @Autowired
+    TaskCounterRepository counterRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
     @Test
     public void shouldGetTasksByTodoId() {
         ToDo todo = new ToDo();
@@ -59,4 +73,119 @@ public class TaskRepositoryTest {
         Assertions.assertEquals(2, actual.size());
         Assertions.assertTrue(expected.containsAll(actual) && actual.containsAll(expected));
     }
+
+    @Test
+    public void shouldMoveCounterOnUpdateState() {
+        ToDo todo = new ToDo();
+        todo.setTitle("Counted ToDo");
+        todo.setCreatedAt(LocalDateTime.now());
+        long todoId = toDoRepository.save(todo).getId();
+        long newState = stateRepository.getByName("New").getId();
+        long doneState = stateRepository.getByName("Done").getId();
+
+        Task task = new Task();
+        task.setName("task");
+        task.setTodo(todo);
+        task.setPriority(Priority.HIGH);
+        task.setState(stateRepository.getByName("New"));
+        long taskId = taskRepository.saveAndFlush(task).getId();
+        counterRepository.add(todoId, newState, Priority.HIGH.getCode(), 1);
+
+        Assertions.assertEquals(0, taskRepository.updateState(taskId, todoId, doneState, 1L));
+        Assertions.assertEquals(2, taskRepository.updateState(taskId, todoId, doneState, 0L));
+        entityManager.clear();
+
+        Assertions.assertEquals(0, counterRepository.getOne(new TaskCounterId(todoId, newState, Priority.HIGH.getCode())).getTaskCount());
+        Assertions.assertEquals(1, counterRepository.getOne(new TaskCounterId(todoId, doneState, Priority.HIGH.getCode())).getTaskCount());
+    }
+
+    @Test
+    public void shouldSearchOwnedAndCollaboratedTasksByRank() {
+        User user = new User();
+        user.setEmail("searcher@mail.com");
+        user.setFirstName("Search");
+        user.setLastName("User");
+        user.setPassword("password");
+        user.setRole(roleRepository.getOne(2L));
+        userRepository.save(user);
+
+        ToDo owned = todo("Owned", user);
+        ToDo shared = todo("Shared", null);
+        shared.setCollaborators(Arrays.asList(user));
+        ToDo foreign = todo("Foreign", null);
+        toDoRepository.saveAll(Arrays.asList(owned, shared, foreign));
+
+        long best = taskRepository.save(task("Invoices: pay invoices before Friday", owned)).getId();
+        long other = taskRepository.save(task("Pay the invoice", shared)).getId();
+        taskRepository.save(task("Pay invoice for someone else", foreign));
+        taskRepository.save(task("Water the plants", owned));
+        taskRepository.flush();
+
+        List<TaskSearchResult> actual = taskRepository.search(user.getId(), "paying invoices", 10, 0, 100, 1000);
+        List<TaskSearchResult> lookedUp = taskRepository.search(user.getId(), "paying invoices", 10, 0, 1, 1000);
+
+        Assertions.assertEquals(Arrays.asList(best, other),
+                actual.stream().map(TaskSearchResult::getId).collect(Collectors.toList()));
+        Assertions.assertEquals("Shared", actual.get(1).getTodoTitle());
+        Assertions.assertEquals("New", actual.get(1).getState());
+        Assertions.assertEquals("LOW", actual.get(1).getPriority());
+        Assertions.assertTrue(actual.get(0).getRank() > actual.get(1).getRank());
+        Assertions.assertEquals(Arrays.asList(best, other),
+                lookedUp.stream().map(TaskSearchResult::getId).collect(Collectors.toList()));
+        Assertions.assertEquals(1, taskRepository.search(user.getId(), "paying invoices", 10, 1, 100, 1000).size());
+        Assertions.assertTrue(taskRepository.search(user.getId(), "plants -water", 10, 0, 100, 1000).isEmpty());
+    }
+
+    @Test
+    public void shouldFilterAndSortWithSpecifications() {
+        ToDo todo = toDoRepository.save(todo("Filtered ToDo", null));
+        ToDo otherTodo = toDoRepository.save(todo("Other filtered ToDo", null));
+        Task low = task("Report draft", todo);
+        Task high = task("report final", todo);
+        high.setPriority(Priority.HIGH);
+        Task medium = task("Report_review", todo);
+        medium.setPriority(Priority.MEDIUM);
+        Task done = task("Report archived", todo);
+        done.setPriority(Priority.HIGH);
+        done.setState(stateRepository.getByName("Done"));
+        taskRepository.saveAll(Arrays.asList(low, high, medium, done, task("Report elsewhere", otherTodo)));
+
+        TaskFilter filter = new TaskFilter();
+        filter.setName("REPORT");
+        filter.setState(stateRepository.getByName("New").getId());
+        filter.setSort("priority");
+        filter.setDesc(true);
+        List<Task> byPriority = taskRepository.findAll(TaskSpecifications.filtered(todo.getId(), filter));
+
+        filter.setPriority(Priority.HIGH);
+        filter.setState(null);
+        filter.setSort("name");
+        filter.setDesc(false);
+        List<Task> highByName = taskRepository.findAll(TaskSpecifications.filtered(todo.getId(), filter));
+
+        filter = new TaskFilter();
+        filter.setName("report_");
+        List<Task> literalUnderscore = taskRepository.findAll(TaskSpecifications.filtered(todo.getId(), filter));
+
+        Assertions.assertEquals(Arrays.asList(high, medium, low), byPriority);
+        Assertions.assertEquals(Arrays.asList(done, high), highByName);
+        Assertions.assertEquals(Arrays.asList(medium), literalUnderscore);
+    }
+
+    private static ToDo todo(String title, User owner) {
+        ToDo todo = new ToDo();
+        todo.setTitle(title);
+        todo.setCreatedAt(LocalDateTime.now());
+        todo.setOwner(owner);
+        return todo;
+    }
+
+    private Task task(String name, ToDo todo) {
+        Task task = new Task();
+        task.setName(name);
+        task.setTodo(todo);
+        task.setPriority(Priority.LOW);
+        task.setState(stateRepository.getByName("New"));
+        return task;
+    }
 }
@@ -1,5 +1,6 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.ToDoSummary;
 import com.softserve.itacademy.model.ToDo;
 import com.softserve.itacademy.model.User;
 import org.junit.jupiter.api.Assertions;
@@ -12,6 +13,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
@@ -63,4 +66,77 @@ class ToDoRepositoryTest {
 
 
     }
+
+    @Test
+    void shouldPageByUserIdUsingKeyset() {
+        User owner = new User();
+        owner.setEmail("keyset@gmail.com");
+        owner.setFirstName("First");
+        owner.setLastName("Last");
+        owner.setPassword("password");
+        owner.setRole(roleRepository.findById(1L).get());
+        userRepository.save(owner);
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 2; i++) {
+            ToDo toDo = new ToDo();
+            toDo.setTitle("keyset" + i);
+            toDo.setCreatedAt(now.plusMinutes(i));
+            toDo.setOwner(owner);
+            toDoRepository.save(toDo);
+        }
+        ToDo shared = new ToDo();
+        shared.setTitle("keyset shared");
+        shared.setCreatedAt(now.plusMinutes(2));
+        shared.setOwner(userRepository.findById(5L).get());
+        shared.setCollaborators(Arrays.asList(owner));
+        toDoRepository.save(shared);
+        entityManager.flush();
+
+        List<ToDoSummary> first = toDoRepository.getFirstPageByUserId(owner.getId(), 2);
+        ToDoSummary last = first.get(first.size() - 1);
+        List<ToDoSummary> second = toDoRepository.getPageByUserIdAfter(owner.getId(), last.getCreatedAt(), last.getId(), 2);
+        ToDoSummary lastOfSecond = second.get(second.size() - 1);
+        List<ToDoSummary> third = toDoRepository.getPageByUserIdAfter(owner.getId(),
+                lastOfSecond.getCreatedAt(), lastOfSecond.getId(), 2);
+
+        Assertions.assertEquals(Arrays.asList("keyset0", "keyset1"),
+                first.stream().map(ToDoSummary::getTitle).collect(Collectors.toList()));
+        Assertions.assertEquals(Arrays.asList("keyset shared"),
+                second.stream().map(ToDoSummary::getTitle).collect(Collectors.toList()));
+        Assertions.assertEquals(5L, second.get(0).getOwnerId());
+        Assertions.assertEquals(shared.getOwner().getFirstName(), second.get(0).getOwnerFirstName());
+        Assertions.assertTrue(third.isEmpty());
+    }
+
+    @Test
+    void shouldStreamByUserIdInKeysetOrder() {
+        try (Stream<ToDo> todos = toDoRepository.streamByUserId(4L)) {
+            List<Long> actual = todos.map(ToDo::getId).collect(Collectors.toList());
+
+            Assertions.assertEquals(Arrays.asList(7L, 8L, 9L, 10L, 12L), actual);
+        }
+    }
+
+    @Test
+    void shouldAddCollaboratorOnce() {
+        int first = toDoRepository.addCollaborator(8L, 5L);
+        int second = toDoRepository.addCollaborator(8L, 5L);
+        entityManager.clear();
+
+        Assertions.assertEquals(1, first);
+        Assertions.assertEquals(0, second);
+        Assertions.assertEquals(1, toDoRepository.findById(8L).get().getCollaborators().size());
+    }
+
+    @Test
+    void shouldRemoveCollaborator() {
+        int removed = toDoRepository.removeCollaborator(7L, 5L);
+        int missing = toDoRepository.removeCollaborator(7L, 5L);
+        entityManager.clear();
+
+        Assertions.assertEquals(1, removed);
+        Assertions.assertEquals(0, missing);
+        Assertions.assertEquals(1, toDoRepository.findById(7L).get().getCollaborators().size());
+    }
 }
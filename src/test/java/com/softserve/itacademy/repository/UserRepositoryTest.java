@@ -1,5 +1,6 @@
 package com.softserve.itacademy.repository;
 
+import com.softserve.itacademy.dto.UserSummary;
 import com.softserve.itacademy.model.User;
 import com.softserve.itacademy.repository.RoleRepository;
 import com.softserve.itacademy.repository.UserRepository;
@@ -9,6 +10,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @DataJpaTest
@@ -43,4 +49,79 @@ public class UserRepositoryTest {
 
         Assertions.assertNull(actual);
     }
+
+    @Test
+    public void shouldHideSoftDeletedUser() {
+        User user = userRepository.getUserByEmail("nick@mail.com");
+
+        Assertions.assertEquals(1, userRepository.markDeleted(user.getId()));
+        Assertions.assertEquals(0, userRepository.markDeleted(user.getId()));
+        entityManager.clear();
+
+        Assertions.assertNull(userRepository.getUserByEmail("nick@mail.com"));
+        Assertions.assertTrue(userRepository.findAll().stream().noneMatch(u -> u.getId() == user.getId()));
+        Assertions.assertTrue(userRepository.getDeletedIds(10).stream()
+                .anyMatch(id -> id.longValue() == user.getId()));
+    }
+
+    @Test
+    public void shouldSearchByPrefix() {
+        User first = new User();
+        first.setFirstName("Quentin");
+        first.setLastName("Black");
+        first.setEmail("quentin@mail.com");
+        first.setPassword("0000");
+        first.setRole(roleRepository.getOne(2L));
+        first = userRepository.save(first);
+
+        User second = new User();
+        second.setFirstName("Paul");
+        second.setLastName("Quill");
+        second.setEmail("paul.quill@mail.com");
+        second.setPassword("0000");
+        second.setRole(roleRepository.getOne(2L));
+        userRepository.save(second);
+
+        List<UserSummary> actual = userRepository.searchByPrefix("qu%", 0L, 10);
+
+        Assertions.assertEquals(2, actual.size());
+        Assertions.assertEquals("Paul", actual.get(0).getFirstName());
+        Assertions.assertEquals("quentin@mail.com", actual.get(1).getEmail());
+        Assertions.assertEquals(1, userRepository.searchByPrefix("qu%", first.getId(), 10).size());
+    }
+
+    @Test
+    public void shouldPageSummariesAfterTheLastRow() {
+        for (String email : new String[]{"ann.one@mail.com", "ann.two@mail.com", "ann.three@mail.com"}) {
+            User user = new User();
+            user.setFirstName("Ann");
+            user.setLastName("Page");
+            user.setEmail(email);
+            user.setPassword("0000");
+            user.setRole(roleRepository.getOne(2L));
+            userRepository.save(user);
+        }
+        userRepository.flush();
+
+        Assertions.assertEquals(ids(userRepository.findAll(Sort.by(Sort.Order.desc("firstName"),
+                Sort.Order.desc("id")))), allPages(Sort.Order.desc("firstName")));
+        Assertions.assertEquals(ids(userRepository.findAll(Sort.by(Sort.Order.asc("email")))),
+                allPages(Sort.Order.asc("email")));
+        Assertions.assertEquals(ids(userRepository.findAll(Sort.by(Sort.Order.desc("id")))),
+                allPages(Sort.Order.desc("id")));
+    }
+
+    private List<Long> allPages(Sort.Order order) {
+        List<Long> ids = new ArrayList<>();
+        List<UserSummary> page = userRepository.getSummaries(order, null, 2);
+        while (!page.isEmpty()) {
+            page.forEach(user -> ids.add(user.getId()));
+            page = userRepository.getSummaries(order, ids.get(ids.size() - 1), 2);
+        }
+        return ids;
+    }
+
+    private static List<Long> ids(List<User> users) {
+        return users.stream().map(User::getId).collect(Collectors.toList());
+    }
 }
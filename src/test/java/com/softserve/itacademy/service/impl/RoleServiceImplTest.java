@@ -1,5 +1,6 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.exception.NotFoundException;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.Role;
 import com.softserve.itacademy.repository.RoleRepository;
@@ -75,10 +76,11 @@ class RoleServiceImplTest {
     void shouldThrowEntityNotFoundExceptionReadById() {
         when(roleRepository.findById(anyLong())).thenReturn(Optional.empty());
 
-        assertThrows(NoSuchElementException.class, () -> {
+        Exception exception = assertThrows(NotFoundException.class, () -> {
             roleService.readById(ROLE_ID);
         });
 
+        Assertions.assertEquals("Role with id " + ROLE_ID + " not found", exception.getMessage());
     }
 
     @Test
@@ -108,7 +110,7 @@ class RoleServiceImplTest {
     void shouldNotUpdateRole() {
         when(roleRepository.findById(anyLong())).thenReturn(Optional.empty());
 
-        Exception exception = assertThrows(NoSuchElementException.class, () -> {
+        Exception exception = assertThrows(NotFoundException.class, () -> {
             roleService.update(expected);
         });
 
@@ -129,7 +131,7 @@ class RoleServiceImplTest {
     void shouldThrowEntityNotFoundExceptionDeleteRole() {
         when(roleRepository.findById(anyLong())).thenReturn(Optional.empty());
 
-        assertThrows(NoSuchElementException.class, () -> {
+        assertThrows(NotFoundException.class, () -> {
             roleService.delete(ROLE_ID);
         });
 
@@ -157,4 +159,43 @@ class RoleServiceImplTest {
         Assertions.assertEquals(expected.size(), actual.size());
         verify(roleRepository).findAll();
     }
+
+    @Test
+    void shouldServeRepeatedLookupsFromSnapshot() {
+        when(roleRepository.findAll()).thenReturn(Collections.singletonList(expected));
+
+        Assertions.assertEquals(expected, roleService.readById(expected.getId()));
+        Assertions.assertEquals(expected, roleService.readById(expected.getId()));
+        Assertions.assertEquals(roleService.getAll(), roleService.getAll());
+
+        verify(roleRepository, times(1)).findAll();
+        verify(roleRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void shouldShareDetachedReadOnlySnapshot() {
+        when(roleRepository.findAll()).thenReturn(Collections.singletonList(expected));
+
+        Role first = roleService.readById(expected.getId());
+
+        Assertions.assertNotSame(expected, first);
+        Assertions.assertSame(first, roleService.readById(expected.getId()));
+        Assertions.assertSame(roleService.getAll(), roleService.getAll());
+        Assertions.assertNull(first.getUsers());
+        assertThrows(UnsupportedOperationException.class, () -> roleService.getAll().add(new Role()));
+    }
+
+    @Test
+    void shouldReloadSnapshotAfterCreate() {
+        Role admin = new Role();
+        admin.setName("ADMIN");
+        when(roleRepository.findAll()).thenReturn(Collections.singletonList(expected), Arrays.asList(expected, admin));
+        when(roleRepository.save(any(Role.class))).thenReturn(admin);
+
+        roleService.getAll();
+        roleService.create(admin);
+
+        Assertions.assertEquals(2, roleService.getAll().size());
+        verify(roleRepository, times(2)).findAll();
+    }
 }
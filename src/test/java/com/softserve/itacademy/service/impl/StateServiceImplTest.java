@@ -11,12 +11,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -195,4 +198,73 @@ class StateServiceImplTest {
         verify(stateRepository).getAll();
         Assertions.assertEquals(expected, actual);
     }
+
+    @Test
+    void shouldServeRepeatedLookupsFromSnapshot() {
+        when(stateRepository.getAll()).thenReturn(Collections.singletonList(expected));
+
+        Assertions.assertEquals(expected, stateService.readById(STATE_ID));
+        Assertions.assertEquals(expected, stateService.getByName(NAME));
+        Assertions.assertEquals(Collections.singletonList(expected), stateService.getAll());
+        Assertions.assertEquals(stateService.getAll(), stateService.getAll());
+
+        verify(stateRepository, times(1)).getAll();
+        verify(stateRepository, never()).findById(anyLong());
+        verify(stateRepository, never()).getByName(anyString());
+    }
+
+    @Test
+    void shouldShareDetachedReadOnlySnapshot() {
+        when(stateRepository.getAll()).thenReturn(Collections.singletonList(expected));
+
+        State first = stateService.readById(STATE_ID);
+
+        Assertions.assertNotSame(expected, first);
+        Assertions.assertSame(first, stateService.readById(STATE_ID));
+        Assertions.assertSame(first, stateService.getByName(NAME));
+        Assertions.assertSame(stateService.getAll(), stateService.getAll());
+        Assertions.assertNull(first.getTasks());
+        assertThrows(UnsupportedOperationException.class, () -> stateService.getAll().add(new State()));
+    }
+
+    @Test
+    void shouldReloadSnapshotAfterUpdate() {
+        State renamed = new State();
+        renamed.setId(STATE_ID);
+        renamed.setName("renamed");
+        when(stateRepository.getAll()).thenReturn(Collections.singletonList(expected), Collections.singletonList(renamed));
+        when(stateRepository.save(any(State.class))).thenReturn(renamed);
+
+        stateService.getAll();
+        stateService.update(renamed);
+
+        Assertions.assertEquals("renamed", stateService.readById(STATE_ID).getName());
+        verify(stateRepository, times(2)).getAll();
+    }
+
+    @Test
+    void shouldNotPinRowsReadBeforeCommit() throws InterruptedException {
+        State renamed = new State();
+        renamed.setId(STATE_ID);
+        renamed.setName("renamed");
+        AtomicReference<List<State>> committed = new AtomicReference<>(Collections.singletonList(expected));
+        when(stateRepository.getAll()).thenAnswer(invocation -> committed.get());
+        when(stateRepository.save(any(State.class))).thenReturn(renamed);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            stateService.update(renamed);
+            Thread reader = new Thread(() -> stateService.getAll());
+            reader.start();
+            reader.join();
+            Assertions.assertEquals(NAME, stateService.readById(STATE_ID).getName());
+
+            committed.set(Collections.singletonList(renamed));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals("renamed", stateService.readById(STATE_ID).getName());
+    }
 }
@@ -1,11 +1,17 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.dto.TaskSearchResult;
+import com.softserve.itacademy.dto.TaskStatsDto;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.Priority;
 import com.softserve.itacademy.model.State;
 import com.softserve.itacademy.model.Task;
+import com.softserve.itacademy.model.TaskCounter;
+import com.softserve.itacademy.model.TaskCounterId;
 import com.softserve.itacademy.model.ToDo;
+import com.softserve.itacademy.repository.TaskCounterRepository;
 import com.softserve.itacademy.repository.TaskRepository;
+import com.softserve.itacademy.service.StateService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,14 +20,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
 import javax.persistence.EntityNotFoundException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -31,6 +43,12 @@ class TaskServiceImplTest {
     @Mock
     TaskRepository taskRepository;
 
+    @Mock
+    TaskCounterRepository counterRepository;
+
+    @Mock
+    StateService stateService;
+
     @InjectMocks
     TaskServiceImpl taskService;
 
@@ -51,6 +69,64 @@ class TaskServiceImplTest {
         expected.setTodo(new ToDo());
     }
 
+    @Test
+    void shouldCreateAllTasks() {
+        List<Task> tasks = Arrays.asList(expected, new Task());
+        when(taskRepository.saveAll(tasks)).thenReturn(tasks);
+
+        List<Task> actual = taskService.createAll(tasks);
+
+        verify(taskRepository).saveAll(tasks);
+        verify(taskRepository, never()).save(any(Task.class));
+        Assertions.assertEquals(tasks, actual);
+    }
+
+    @Test
+    void shouldThrowNullEntityReferenceExceptionCreateAll() {
+        when(taskRepository.saveAll(any())).thenThrow(new IllegalArgumentException());
+
+        Exception exception = assertThrows(NullEntityReferenceException.class, () -> {
+            taskService.createAll(Collections.singletonList(null));
+        });
+
+        Assertions.assertEquals("Task cannot be 'null'", exception.getMessage());
+    }
+
+    @Test
+    void shouldUpdateStateInOneStatement() {
+        State state = new State();
+        state.setId(5L);
+        when(taskRepository.updateState(TASK_ID, 2L, 5L, 3L)).thenReturn(1);
+
+        taskService.updateState(TASK_ID, 2L, state, 3L);
+
+        verify(taskRepository).updateState(TASK_ID, 2L, 5L, 3L);
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    void shouldThrowOptimisticLockingFailureUpdateStateWithStaleVersion() {
+        State state = new State();
+        when(taskRepository.updateState(TASK_ID, 2L, 0L, 3L)).thenReturn(0);
+        when(taskRepository.existsByIdAndTodoId(TASK_ID, 2L)).thenReturn(true);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> {
+            taskService.updateState(TASK_ID, 2L, state, 3L);
+        });
+    }
+
+    @Test
+    void shouldThrowEntityNotFoundExceptionUpdatePriority() {
+        when(taskRepository.updatePriority(TASK_ID, 2L, Priority.HIGH.getCode(), 0L)).thenReturn(0);
+        when(taskRepository.existsByIdAndTodoId(TASK_ID, 2L)).thenReturn(false);
+
+        Exception exception = assertThrows(EntityNotFoundException.class, () -> {
+            taskService.updatePriority(TASK_ID, 2L, Priority.HIGH, 0L);
+        });
+
+        Assertions.assertEquals("Task with id " + TASK_ID + " not found", exception.getMessage());
+    }
+
     @Test
     void shouldCreateTask() {
         when(taskRepository.save(any(Task.class))).thenReturn(expected);
@@ -58,10 +134,61 @@ class TaskServiceImplTest {
         Task actual = taskService.create(expected);
 
         verify(taskRepository).save(any(Task.class));
+        verify(counterRepository).add(0L, 0L, Priority.LOW.getCode(), 1L);
         Assertions.assertEquals(expected, actual);
         Assertions.assertEquals(expected.getId(), actual.getId());
     }
 
+    @Test
+    void shouldGroupCounterDeltasCreateAll() {
+        Task other = new Task();
+        other.setTodo(expected.getTodo());
+        other.setState(expected.getState());
+        other.setPriority(Priority.LOW);
+        List<Task> tasks = Arrays.asList(expected, other);
+        when(taskRepository.saveAll(tasks)).thenReturn(tasks);
+
+        taskService.createAll(tasks);
+
+        verify(counterRepository).add(0L, 0L, Priority.LOW.getCode(), 2L);
+        verifyNoMoreInteractions(counterRepository);
+    }
+
+    @Test
+    void shouldMoveCounterUpdateTask() {
+        Task changed = new Task();
+        changed.setId(TASK_ID);
+        changed.setTodo(expected.getTodo());
+        changed.setState(expected.getState());
+        changed.setPriority(Priority.HIGH);
+        when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(expected));
+        when(taskRepository.save(changed)).thenReturn(changed);
+
+        taskService.update(changed);
+
+        verify(counterRepository).add(0L, 0L, Priority.LOW.getCode(), -1L);
+        verify(counterRepository).add(0L, 0L, Priority.HIGH.getCode(), 1L);
+    }
+
+    @Test
+    void shouldAggregateStatsByTodoIds() {
+        State done = new State();
+        done.setId(8L);
+        done.setName("Done");
+        when(stateService.getAll()).thenReturn(Collections.singletonList(done));
+        when(counterRepository.getByTodoIds(Arrays.asList(7L, 9L))).thenReturn(Arrays.asList(
+                new TaskCounter(new TaskCounterId(7L, 8L, Priority.HIGH.getCode()), 2),
+                new TaskCounter(new TaskCounterId(7L, 5L, Priority.HIGH.getCode()), 1),
+                new TaskCounter(new TaskCounterId(7L, 8L, Priority.LOW.getCode()), 1)));
+
+        Map<Long, TaskStatsDto> stats = taskService.getStatsByTodoIds(Arrays.asList(7L, 9L));
+
+        Assertions.assertEquals(4, stats.get(7L).getTotal());
+        Assertions.assertEquals(3, stats.get(7L).getDone());
+        Assertions.assertEquals(3L, stats.get(7L).getByPriority().get("HIGH"));
+        Assertions.assertEquals(0, stats.get(9L).getTotal());
+    }
+
     @Test
     void shouldThrowNullEntityReferenceExceptionAndNotCreateTask() {
         when(taskRepository.save(any(Task.class))).thenThrow(new IllegalArgumentException());
@@ -138,6 +265,7 @@ class TaskServiceImplTest {
 
         verify(taskRepository).findById(anyLong());
         verify(taskRepository).delete(any(Task.class));
+        verify(counterRepository).add(0L, 0L, Priority.LOW.getCode(), -1L);
     }
 
     @Test
@@ -194,4 +322,17 @@ class TaskServiceImplTest {
         Assertions.assertEquals(expected.size(), actual.size());
         verify(taskRepository).getByTodoId(anyLong());
     }
+
+    @Test
+    void searchShouldCapPageSizeAndDetectNextPage() {
+        List<TaskSearchResult> rows = Collections.nCopies(51, mock(TaskSearchResult.class));
+        when(taskRepository.search(4L, "invoice", 51, 50L, 5000, 1000)).thenReturn(rows);
+
+        Slice<TaskSearchResult> actual = taskService.search(4L, " invoice ", PageRequest.of(1, 500));
+
+        Assertions.assertEquals(50, actual.getContent().size());
+        Assertions.assertTrue(actual.hasNext());
+        Assertions.assertTrue(taskService.search(4L, "  ", PageRequest.of(0, 20)).getContent().isEmpty());
+        verify(taskRepository, times(1)).search(anyLong(), any(), anyInt(), anyLong(), anyInt(), anyInt());
+    }
 }
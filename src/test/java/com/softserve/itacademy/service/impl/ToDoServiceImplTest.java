@@ -1,22 +1,31 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.dto.ToDoSummary;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.ToDo;
 import com.softserve.itacademy.model.User;
+import com.softserve.itacademy.repository.TaskCounterRepository;
+import com.softserve.itacademy.repository.TaskRepository;
 import com.softserve.itacademy.repository.ToDoRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import javax.persistence.EntityManager;
 import javax.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,6 +38,15 @@ class ToDoServiceImplTest {
     @Mock
     ToDoRepository todoRepository;
 
+    @Mock
+    TaskRepository taskRepository;
+
+    @Mock
+    TaskCounterRepository counterRepository;
+
+    @Mock
+    EntityManager entityManager;
+
     @InjectMocks
     ToDoServiceImpl toDoService;
 
@@ -93,6 +111,28 @@ class ToDoServiceImplTest {
         Assertions.assertEquals("To-Do with id " + TODO_ID + " not found", exception.getMessage());
     }
 
+    @Test
+    void shouldReadByIdWithCollaborators() {
+        when(todoRepository.findWithCollaboratorsById(anyLong())).thenReturn(Optional.of(expected));
+
+        ToDo actual = toDoService.readByIdWithCollaborators(TODO_ID);
+
+        verify(todoRepository).findWithCollaboratorsById(anyLong());
+        verify(todoRepository, never()).findById(anyLong());
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldThrowEntityNotFoundExceptionReadByIdWithCollaborators() {
+        when(todoRepository.findWithCollaboratorsById(anyLong())).thenReturn(Optional.empty());
+
+        Exception exception = assertThrows(EntityNotFoundException.class, () -> {
+            toDoService.readByIdWithCollaborators(TODO_ID);
+        });
+
+        Assertions.assertEquals("To-Do with id " + TODO_ID + " not found", exception.getMessage());
+    }
+
     @Test
     void shouldUpdateToDo() {
         when(todoRepository.findById(anyLong())).thenReturn(Optional.of(expected));
@@ -130,25 +170,28 @@ class ToDoServiceImplTest {
 
     @Test
     void shouldDeleteToDo() {
-        when(todoRepository.findById(anyLong())).thenReturn(Optional.of(expected));
+        when(todoRepository.deleteRowById(TODO_ID)).thenReturn(1);
 
         toDoService.delete(TODO_ID);
 
-        verify(todoRepository).findById(anyLong());
-        verify(todoRepository).delete(any(ToDo.class));
+        InOrder inOrder = inOrder(counterRepository, taskRepository, todoRepository);
+        inOrder.verify(counterRepository).deleteAllByTodoId(TODO_ID);
+        inOrder.verify(taskRepository).deleteAllByTodoId(TODO_ID);
+        inOrder.verify(todoRepository).removeAllCollaborators(TODO_ID);
+        inOrder.verify(todoRepository).deleteRowById(TODO_ID);
+        verify(todoRepository, never()).delete(any(ToDo.class));
     }
 
     @Test
     void shouldThrowEntityNotFoundExceptionDeleteToDo() {
-        when(todoRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(todoRepository.deleteRowById(TODO_ID)).thenReturn(0);
 
         Exception exception = assertThrows(EntityNotFoundException.class, () -> {
             toDoService.delete(TODO_ID);
         });
 
         Assertions.assertEquals("To-Do with id " + TODO_ID + " not found", exception.getMessage());
-        verify(todoRepository).findById(anyLong());
-        verify(todoRepository, times(0)).delete(any(ToDo.class));
+        verify(todoRepository).deleteRowById(TODO_ID);
     }
 
     @Test
@@ -193,4 +236,66 @@ class ToDoServiceImplTest {
         verify(todoRepository).getByUserId(anyLong());
         Assertions.assertEquals(expected, actual);
     }
+
+    @Test
+    void shouldReturnFirstPageGetByUserId() {
+        List<ToDoSummary> expected = Arrays.asList(mock(ToDoSummary.class), mock(ToDoSummary.class));
+        when(todoRepository.getFirstPageByUserId(USER_ID, 2)).thenReturn(expected);
+
+        List<ToDoSummary> actual = toDoService.getByUserId(USER_ID, 2);
+
+        verify(todoRepository).getFirstPageByUserId(USER_ID, 2);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldReturnPageAfterKeyGetByUserId() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<ToDoSummary> expected = Collections.singletonList(mock(ToDoSummary.class));
+        when(todoRepository.getPageByUserIdAfter(USER_ID, createdAt, TODO_ID, 2)).thenReturn(expected);
+
+        List<ToDoSummary> actual = toDoService.getByUserId(USER_ID, createdAt, TODO_ID, 2);
+
+        verify(todoRepository).getPageByUserIdAfter(USER_ID, createdAt, TODO_ID, 2);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldDetachStreamedToDos() {
+        when(todoRepository.streamByUserId(anyLong())).thenReturn(Stream.of(expected));
+
+        List<ToDo> actual = new ArrayList<>();
+        toDoService.forEachByUserId(USER_ID, actual::add);
+
+        verify(entityManager).detach(expected);
+        Assertions.assertEquals(Collections.singletonList(expected), actual);
+    }
+
+    @Test
+    void shouldAddCollaboratorWithoutLoadingToDo() {
+        toDoService.addCollaborator(TODO_ID, USER_ID);
+
+        verify(todoRepository).addCollaborator(TODO_ID, USER_ID);
+        verifyNoMoreInteractions(todoRepository);
+    }
+
+    @Test
+    void shouldThrowEntityNotFoundExceptionAddCollaborator() {
+        when(todoRepository.addCollaborator(TODO_ID, USER_ID)).thenThrow(new DataIntegrityViolationException("fk"));
+
+        Exception exception = assertThrows(EntityNotFoundException.class, () -> {
+            toDoService.addCollaborator(TODO_ID, USER_ID);
+        });
+
+        Assertions.assertEquals("To-Do with id " + TODO_ID + " or User with id " + USER_ID + " not found",
+                exception.getMessage());
+    }
+
+    @Test
+    void shouldRemoveCollaboratorWithoutLoadingToDo() {
+        toDoService.removeCollaborator(TODO_ID, USER_ID);
+
+        verify(todoRepository).removeCollaborator(TODO_ID, USER_ID);
+        verifyNoMoreInteractions(todoRepository);
+    }
 }
@@ -1,20 +1,31 @@
 package com.softserve.itacademy.service.impl;
 
+import com.softserve.itacademy.dto.UserSummary;
 import com.softserve.itacademy.exception.NullEntityReferenceException;
 import com.softserve.itacademy.model.Role;
 import com.softserve.itacademy.model.User;
+import com.softserve.itacademy.repository.TaskCounterRepository;
+import com.softserve.itacademy.repository.TaskRepository;
+import com.softserve.itacademy.repository.ToDoRepository;
 import com.softserve.itacademy.repository.UserRepository;
 import com.softserve.itacademy.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.persistence.EntityNotFoundException;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,6 +33,15 @@ public class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ToDoRepository todoRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskCounterRepository counterRepository;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -77,6 +97,15 @@ public class UserServiceImplTest {
         Assertions.assertEquals("User with id " + userId + " not found", exception.getMessage());
     }
 
+    @Test
+    void shouldFindNothingWithoutStackTraceOnMiss() {
+        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        Assertions.assertFalse(userService.findById(userId).isPresent());
+        Exception exception = Assertions.assertThrows(EntityNotFoundException.class, () -> userService.readById(userId));
+        Assertions.assertEquals(0, exception.getStackTrace().length);
+    }
+
     @Test
     public void shouldUpdateUser() {
         Mockito.when(userRepository.findById(userId)).thenReturn(java.util.Optional.ofNullable(expected));
@@ -107,24 +136,65 @@ public class UserServiceImplTest {
         Mockito.verify(userRepository, Mockito.times(0)).save(Mockito.any(User.class));
     }
 
+    @Test
+    void shouldThrowEntityNotFoundExceptionReadSoftDeletedUser() {
+        expected.setDeletedAt(LocalDateTime.now());
+        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.of(expected));
+
+        Exception exception = Assertions.assertThrows(EntityNotFoundException.class, () -> userService.readById(userId));
+        Assertions.assertEquals("User with id " + userId + " not found", exception.getMessage());
+    }
+
     @Test
     public void shouldDeleteUser() {
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.ofNullable(expected));
+        Mockito.when(userRepository.deleteRowById(userId)).thenReturn(1);
 
         userService.delete(userId);
 
-        Mockito.verify(userRepository).findById(Mockito.anyLong());
-        Mockito.verify(userRepository).delete(Mockito.any(User.class));
+        InOrder inOrder = Mockito.inOrder(counterRepository, taskRepository, todoRepository, userRepository);
+        inOrder.verify(counterRepository).deleteAllByOwnerId(userId);
+        inOrder.verify(taskRepository).deleteAllByOwnerId(userId);
+        inOrder.verify(todoRepository).removeAllCollaborationsByUserId(userId);
+        inOrder.verify(todoRepository).deleteAllByOwnerId(userId);
+        inOrder.verify(userRepository).deleteRowById(userId);
+        Mockito.verify(userRepository, Mockito.times(0)).delete(Mockito.any(User.class));
     }
 
     @Test
     public void shouldThrowEntityNotFoundExceptionDeleteUser() {
-        Mockito.when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        Mockito.when(userRepository.deleteRowById(userId)).thenReturn(0);
 
         Exception exception = Assertions.assertThrows(EntityNotFoundException.class, () -> userService.delete(userId));
         Assertions.assertEquals("User with id " + userId + " not found", exception.getMessage());
-        Mockito.verify(userRepository).findById(Mockito.anyLong());
-        Mockito.verify(userRepository, Mockito.times(0)).delete(Mockito.any(User.class));
+        Mockito.verify(userRepository).deleteRowById(userId);
+    }
+
+    @Test
+    public void shouldMarkUserDeletedWhenSoftDeleteEnabled() {
+        ReflectionTestUtils.setField(userService, "softDelete", true);
+        Mockito.when(userRepository.markDeleted(userId)).thenReturn(1);
+
+        userService.delete(userId);
+
+        Mockito.verify(userRepository).markDeleted(userId);
+        Mockito.verifyNoInteractions(counterRepository, taskRepository, todoRepository);
+        Mockito.verify(userRepository, Mockito.times(0)).deleteRowById(Mockito.anyLong());
+    }
+
+    @Test
+    public void shouldThrowEntityNotFoundExceptionSoftDeleteUser() {
+        ReflectionTestUtils.setField(userService, "softDelete", true);
+        Mockito.when(userRepository.markDeleted(userId)).thenReturn(0);
+
+        Exception exception = Assertions.assertThrows(EntityNotFoundException.class, () -> userService.delete(userId));
+        Assertions.assertEquals("User with id " + userId + " not found", exception.getMessage());
+    }
+
+    @Test
+    public void shouldReturnDeletedIds() {
+        Mockito.when(userRepository.getDeletedIds(10)).thenReturn(Arrays.asList(3L, new BigInteger("4")));
+
+        Assertions.assertEquals(Arrays.asList(3L, 4L), userService.getDeletedIds(10));
     }
 
     @Test
@@ -148,4 +218,26 @@ public class UserServiceImplTest {
         Mockito.verify(userRepository).findAll();
     }
 
+    @Test
+    public void shouldEscapeAndCapSearch() {
+        userService.search(" A_b% ", 4L, 1000);
+
+        Mockito.verify(userRepository).searchByPrefix("a\\_b\\%%", 4L, 20);
+    }
+
+    @Test
+    public void shouldNotQueryForBlankSearch() {
+        Assertions.assertTrue(userService.search("  ", 4L, 10).isEmpty());
+        Mockito.verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    public void shouldWhitelistSortAndCapPageSize() {
+        Slice<UserSummary> page = userService.getPage(
+                PageRequest.of(2, 500, Sort.by(Sort.Order.asc("password"), Sort.Order.desc("lastName"))), 7L);
+
+        Mockito.verify(userRepository).getSummaries(Sort.Order.desc("lastName"), 7L, 101);
+        Assertions.assertEquals(Sort.by(Sort.Order.desc("lastName")), page.getSort());
+        Assertions.assertFalse(page.hasNext());
+    }
 }